@@ -0,0 +1,91 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.accounts.repository.AccountsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches one page of the account listing at increasing depths, with the keyset query behind
+ * {@code GET /api/accounts} and with the equivalent OFFSET query. Keyset latency should stay flat
+ * while OFFSET grows with the number of rows skipped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountsPaginationBenchmark {
+
+    private static final int ACCOUNTS = 1_000_000;
+    private static final int PAGE_SIZE = 50;
+    private static final long FIRST_ACCOUNT_NUMBER = 2_000_000_000L;
+
+    @Param({"0", "1000", "19000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private AccountsRepository accountsRepository;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("accounts-pagination", Map.of());
+        accountsRepository = context.getBean(AccountsRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Date today = Date.valueOf(LocalDate.now());
+        for (int from = 0; from < ACCOUNTS; from += 10_000) {
+            List<Object[]> rows = new ArrayList<>(10_000);
+            for (int i = from; i < from + 10_000; i++) {
+                rows.add(new Object[]{i, FIRST_ACCOUNT_NUMBER + i, i % 2 == 0 ? "Savings" : "Checking",
+                        "123 Main Street, New York", today, "BENCHMARK"});
+            }
+            jdbcTemplate.batchUpdate("insert into accounts (customer_id, account_number, account_type, branch_address, " +
+                    "created_at, created_by) values (?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Accounts> keyset() {
+        Long afterAccountNumber = page == 0 ? null : FIRST_ACCOUNT_NUMBER + (long) page * PAGE_SIZE - 1;
+        return accountsRepository.findPageAfter(null, null, afterAccountNumber, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Accounts> offset() {
+        return entityManager.createQuery("from Accounts a order by a.accountNumber", Accounts.class)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Full service path against an embedded H2 database, with and without the account lookup cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountsServiceBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+    private static final long FIRST_MOBILE_NUMBER = 6_000_000_000L;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private IAccountsService iAccountsService;
+    private final AtomicLong nextMobileNumber = new AtomicLong(FIRST_MOBILE_NUMBER + CUSTOMERS);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("accounts-service-" + cacheType, Map.of("spring.cache.type", cacheType));
+        iAccountsService = context.getBean(IAccountsService.class);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            iAccountsService.createAccount(customer(FIRST_MOBILE_NUMBER + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerDto fetchAccount() {
+        long mobileNumber = FIRST_MOBILE_NUMBER + ThreadLocalRandom.current().nextInt(CUSTOMERS);
+        return iAccountsService.fetchAccount(Long.toString(mobileNumber));
+    }
+
+    @Benchmark
+    public void createAccount() {
+        iAccountsService.createAccount(customer(nextMobileNumber.getAndIncrement()));
+    }
+
+    private static CustomerDto customer(long mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Benchmark Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(Long.toString(mobileNumber));
+        return customerDto;
+    }
+}
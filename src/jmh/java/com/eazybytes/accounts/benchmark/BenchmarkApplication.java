@@ -0,0 +1,36 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.AccountsApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Boots the accounts application against an in-memory H2 database with the config server, Eureka
+ * and the web server switched off, so benchmarks measure the service and persistence layers only.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+        // restrict instantiation: private constructors mean class cannot be instantiated
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, Map<String, Object> overrides) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.cloud.config.enabled", "false");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("build.version", "benchmark");
+        properties.putAll(overrides);
+        return new SpringApplicationBuilder(AccountsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,109 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.dto.ErrorResponseDto;
+import com.eazybytes.accounts.exception.GlobalExceptionHandler;
+import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a lookup miss: throwing the domain exception and turning it into an error body.
+ * <p>
+ * The {@code stackful} benchmarks reproduce the previous implementation (a formatted message and a
+ * captured stack trace) so that the cost per 404 can be compared before and after. The exception is
+ * thrown {@code stackDepth} frames deep, since in the application it is raised below the servlet
+ * filter chain, the controller and the transactional proxies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    @Param({"10", "100"})
+    public int stackDepth;
+
+    private GlobalExceptionHandler globalExceptionHandler;
+    private WebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        globalExceptionHandler = new GlobalExceptionHandler();
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/fetch"));
+    }
+
+    @Benchmark
+    public ResourceNotFoundException createException() {
+        return new ResourceNotFoundException("Customer", "mobileNumber", "9175552620");
+    }
+
+    @Benchmark
+    public StackfulResourceNotFoundException createStackfulException() {
+        return new StackfulResourceNotFoundException("Customer", "mobileNumber", "9175552620");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDto> handleResourceNotFound() {
+        try {
+            throwAt(stackDepth, false);
+            return null;
+        } catch (ResourceNotFoundException ex) {
+            return globalExceptionHandler.handleResourceNotFoundException(ex, webRequest);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDto> handleStackfulResourceNotFound() {
+        try {
+            throwAt(stackDepth, true);
+            return null;
+        } catch (StackfulResourceNotFoundException ex) {
+            ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
+                    webRequest.getDescription(false),
+                    HttpStatus.NOT_FOUND,
+                    ex.getMessage(),
+                    LocalDateTime.now()
+            );
+            return new ResponseEntity<>(errorResponseDTO, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private static void throwAt(int depth, boolean stackful) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackful);
+            return;
+        }
+        if (stackful) {
+            throw new StackfulResourceNotFoundException("Customer", "mobileNumber", "9175552620");
+        }
+        throw new ResourceNotFoundException("Customer", "mobileNumber", "9175552620");
+    }
+
+    /**
+     * The exception as it was before it became stackless.
+     */
+    public static class StackfulResourceNotFoundException extends RuntimeException {
+        public StackfulResourceNotFoundException(String resourceName, String fieldName, String fieldValue) {
+            super(String.format("%s not found with the given input data %s: '%s'", resourceName, fieldName, fieldValue));
+        }
+    }
+}
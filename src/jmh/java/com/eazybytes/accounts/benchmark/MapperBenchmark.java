@@ -0,0 +1,73 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.CustomerAccountsDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.accounts.entity.Customer;
+import com.eazybytes.accounts.mapper.AccountsMapper;
+import com.eazybytes.accounts.mapper.CustomerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private Customer customer;
+    private Accounts accounts;
+    private CustomerDto customerDto;
+    private CustomerAccountsDto customerAccountsDto;
+
+    @Setup
+    public void setUp() {
+        customer = new Customer(1L, "Mark Satin", "mark@fakemail.com", "9175552620");
+        accounts = new Accounts();
+        accounts.setCustomerId(1L);
+        accounts.setAccountNumber(2000000001L);
+        accounts.setAccountType("Savings");
+        accounts.setBranchAddress("123 Main Street, New York");
+        customerDto = CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
+        customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        customerAccountsDto = new CustomerAccountsDto(1L, "Mark Satin", "mark@fakemail.com", "9175552620",
+                2000000001L, "Savings", "123 Main Street, New York", 0L, 0L);
+    }
+
+    @Benchmark
+    public CustomerDto entitiesToCustomerDto() {
+        CustomerDto result = CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
+        result.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        return result;
+    }
+
+    @Benchmark
+    public CustomerDto projectionToCustomerDto() {
+        CustomerDto result = CustomerMapper.mapToCustomerDto(customerAccountsDto, new CustomerDto());
+        result.setAccountsDto(AccountsMapper.mapToAccountsDto(customerAccountsDto, new AccountsDto()));
+        return result;
+    }
+
+    @Benchmark
+    public Customer customerDtoToEntity() {
+        return CustomerMapper.mapToCustomer(customerDto, new Customer());
+    }
+
+    @Benchmark
+    public Accounts accountsDtoToEntity() {
+        return AccountsMapper.mapToAccounts(customerDto.getAccountsDto(), new Accounts());
+    }
+}
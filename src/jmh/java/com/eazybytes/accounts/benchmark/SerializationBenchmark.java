@@ -0,0 +1,79 @@
+package com.eazybytes.accounts.benchmark;
+
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CustomerDetailsDto customerDetailsDto;
+    private byte[] customerDetailsJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        AccountsDto accountsDto = new AccountsDto();
+        accountsDto.setAccountNumber(2000000001L);
+        accountsDto.setAccountType("Savings");
+        accountsDto.setBranchAddress("123 Main Street, New York");
+
+        LoansDto loansDto = new LoansDto();
+        loansDto.setMobileNumber("9175552620");
+        loansDto.setLoanNumber("944271603827");
+        loansDto.setLoanType("Home Loan");
+        loansDto.setTotalLoan(30000);
+        loansDto.setAmountPaid(10500);
+        loansDto.setOutstandingAmount(19500);
+
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber("9175552620");
+        cardsDto.setCardNumber("422378884160");
+        cardsDto.setCardType("Credit");
+        cardsDto.setTotalLimit(50000);
+        cardsDto.setAmountUsed(20000);
+        cardsDto.setAvailableAmount(30000);
+
+        customerDetailsDto = new CustomerDetailsDto();
+        customerDetailsDto.setName("Mark Satin");
+        customerDetailsDto.setEmail("mark@fakemail.com");
+        customerDetailsDto.setMobileNumber("9175552620");
+        customerDetailsDto.setAccountsDto(accountsDto);
+        customerDetailsDto.setLoansDto(loansDto);
+        customerDetailsDto.setCardsDto(cardsDto);
+        customerDetailsJson = objectMapper.writeValueAsBytes(customerDetailsDto);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerDetails() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customerDetailsDto);
+    }
+
+    @Benchmark
+    public CustomerDetailsDto deserializeCustomerDetails() throws Exception {
+        return objectMapper.readValue(customerDetailsJson, CustomerDetailsDto.class);
+    }
+}
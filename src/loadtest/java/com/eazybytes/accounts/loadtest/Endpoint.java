@@ -0,0 +1,31 @@
+package com.eazybytes.accounts.loadtest;
+
+enum Endpoint {
+
+    CREATE("create"),
+    FETCH("fetch"),
+    UPDATE("update"),
+    DELETE("delete"),
+    FETCH_CUSTOMER_DETAILS("fetchCustomerDetails"),
+    FETCH_CUSTOMER_DETAILS_REACTIVE("fetchCustomerDetailsReactive"),
+    FETCH_CUSTOMER_DETAILS_BATCH("fetchCustomerDetailsBatch");
+
+    private final String endpointName;
+
+    Endpoint(String endpointName) {
+        this.endpointName = endpointName;
+    }
+
+    String endpointName() {
+        return endpointName;
+    }
+
+    static Endpoint fromName(String name) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.endpointName.equals(name)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint " + name);
+    }
+}
@@ -0,0 +1,63 @@
+package com.eazybytes.accounts.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTestRunner}. Options the harness does not know about are
+ * forwarded to the application under test as Spring properties, e.g. {@code --spring.profiles.active=persistent}.
+ */
+final class LoadTestOptions {
+
+    int requestsPerSecond = 200;
+    Duration duration = Duration.ofSeconds(60);
+    int seedCustomers = 1_000;
+    long stubLatencyMillis = 20;
+    double stubErrorRate = 0.01;
+    final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    final Map<String, Object> applicationProperties = new LinkedHashMap<>();
+
+    private LoadTestOptions() {
+        mix.put(Endpoint.CREATE, 1);
+        mix.put(Endpoint.FETCH, 6);
+        mix.put(Endpoint.UPDATE, 1);
+        mix.put(Endpoint.DELETE, 1);
+        mix.put(Endpoint.FETCH_CUSTOMER_DETAILS, 3);
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "rps" -> options.requestsPerSecond = Integer.parseInt(value);
+                case "duration" -> options.duration = Duration.parse("PT" + value.toUpperCase());
+                case "seed" -> options.seedCustomers = Integer.parseInt(value);
+                case "stub-latency" -> options.stubLatencyMillis = Long.parseLong(value);
+                case "stub-error-rate" -> options.stubErrorRate = Double.parseDouble(value);
+                case "mix" -> options.parseMix(value);
+                default -> options.applicationProperties.put(name, value);
+            }
+        }
+        return options;
+    }
+
+    private void parseMix(String value) {
+        mix.clear();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            mix.put(Endpoint.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+    }
+
+    int expectedRequests(Endpoint endpoint) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        return (int) Math.ceil((double) requestsPerSecond * duration.toSeconds() * mix.getOrDefault(endpoint, 0) / totalWeight);
+    }
+}
@@ -0,0 +1,249 @@
+package com.eazybytes.accounts.loadtest;
+
+import com.eazybytes.accounts.AccountsApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Open-model load generator for the accounts REST API. It boots the application with stub loans
+ * and cards servers, seeds customers, drives the configured request mix at a fixed arrival rate
+ * and prints HdrHistogram latency percentiles and throughput per endpoint.
+ * <p>
+ * Latency is measured from the scheduled send time, so a stalled server is not hidden by
+ * coordinated omission.
+ */
+public final class LoadTestRunner {
+
+    private static final long STABLE_MOBILE_NUMBERS = 7_000_000_000L;
+    private static final long DELETABLE_MOBILE_NUMBERS = 7_100_000_000L;
+    private static final long CREATED_MOBILE_NUMBERS = 7_200_000_000L;
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final AtomicInteger nextDeletable = new AtomicInteger();
+    private final AtomicLong nextCreated = new AtomicLong(CREATED_MOBILE_NUMBERS);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private String baseUrl;
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (StubDownstreamServer loans = StubDownstreamServer.loans(options.stubLatencyMillis, options.stubErrorRate);
+             StubDownstreamServer cards = StubDownstreamServer.cards(options.stubLatencyMillis, options.stubErrorRate);
+             ConfigurableApplicationContext context = startApplication(options, loans, cards)) {
+            LoadTestRunner runner = new LoadTestRunner(options);
+            runner.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            runner.seed();
+            runner.run();
+            runner.report();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options,
+                                                                   StubDownstreamServer loans,
+                                                                   StubDownstreamServer cards) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.cloud.config.enabled", "false");
+        properties.put("eureka.client.enabled", "false");
+        properties.put("spring.cloud.discovery.client.simple.instances.loans[0].uri", loans.baseUrl());
+        properties.put("spring.cloud.discovery.client.simple.instances.cards[0].uri", cards.baseUrl());
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("build.version", "loadtest");
+        properties.putAll(options.applicationProperties);
+        // the test profile provides the in-memory outbox publisher
+        return new SpringApplicationBuilder(AccountsApplication.class).profiles("test").properties(properties).run();
+    }
+
+    private void seed() throws Exception {
+        int deletable = options.expectedRequests(Endpoint.DELETE);
+        seedRange(STABLE_MOBILE_NUMBERS, options.seedCustomers);
+        seedRange(DELETABLE_MOBILE_NUMBERS, deletable);
+        System.out.printf("Seeded %d customers and %d deletable customers%n", options.seedCustomers, deletable);
+    }
+
+    private void seedRange(long firstMobileNumber, int count) throws Exception {
+        for (int from = 0; from < count; from += SEED_BATCH_SIZE) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, count); i++) {
+                batch.add(customer(firstMobileNumber + i, "Seeded Customer"));
+            }
+            httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/create-bulk"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private void run() throws Exception {
+        Endpoint[] weightedEndpoints = weightedEndpoints();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / options.requestsPerSecond;
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        System.out.printf("Driving %d req/s for %s%n", options.requestsPerSecond, options.duration);
+        scheduler.scheduleAtFixedRate(() -> {
+            Endpoint endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+            send(endpoint, System.nanoTime());
+        }, 0, periodNanos, TimeUnit.NANOSECONDS);
+        Thread.sleep(options.duration.toMillis());
+        scheduler.shutdownNow();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private Endpoint[] weightedEndpoints() {
+        List<Endpoint> weighted = new ArrayList<>();
+        options.mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        return weighted.toArray(new Endpoint[0]);
+    }
+
+    private void send(Endpoint endpoint, long scheduledNanos) {
+        HttpRequest request;
+        try {
+            request = buildRequest(endpoint);
+        } catch (Exception ex) {
+            errors.get(endpoint).increment();
+            return;
+        }
+        inFlight.incrementAndGet();
+        exchange(endpoint, request).whenComplete((response, throwable) -> {
+            latencies.get(endpoint).recordValue(Math.min(
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos), TimeUnit.MINUTES.toMicros(1)));
+            if (throwable != null || response.statusCode() >= 300) {
+                errors.get(endpoint).increment();
+            }
+            inFlight.decrementAndGet();
+        });
+    }
+
+    // an update must send back the versions it read, so it is a fetch followed by the PUT
+    private CompletableFuture<HttpResponse<Void>> exchange(Endpoint endpoint, HttpRequest request) {
+        if (endpoint != Endpoint.UPDATE) {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(fetched -> httpClient.sendAsync(updateRequest(fetched.body()), HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private HttpRequest updateRequest(byte[] fetchedCustomer) {
+        ObjectNode customer;
+        try {
+            customer = (ObjectNode) objectMapper.readTree(fetchedCustomer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        customer.put("name", "Updated Customer");
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/update"))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(customer.toString()))
+                .build();
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint) throws Exception {
+        int index = ThreadLocalRandom.current().nextInt(options.seedCustomers);
+        long mobileNumber = STABLE_MOBILE_NUMBERS + index;
+        return switch (endpoint) {
+            case CREATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(customer(nextCreated.getAndIncrement(), "Created Customer"))))
+                    .build();
+            case FETCH, UPDATE -> HttpRequest.newBuilder(URI.create(baseUrl + "/fetch?mobileNumber=" + mobileNumber)).GET().build();
+            case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/delete?mobileNumber="
+                    + (DELETABLE_MOBILE_NUMBERS + nextDeletable.getAndIncrement()))).DELETE().build();
+            case FETCH_CUSTOMER_DETAILS, FETCH_CUSTOMER_DETAILS_REACTIVE -> HttpRequest.newBuilder(URI.create(
+                            baseUrl + "/" + endpoint.endpointName() + "?mobileNumber=" + mobileNumber))
+                    .header("cloudbank-correlation-id", UUID.randomUUID().toString())
+                    .GET()
+                    .build();
+            case FETCH_CUSTOMER_DETAILS_BATCH -> {
+                List<String> mobileNumbers = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    mobileNumbers.add(Long.toString(STABLE_MOBILE_NUMBERS
+                            + ThreadLocalRandom.current().nextInt(options.seedCustomers)));
+                }
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/fetchCustomerDetailsBatch"))
+                        .header("Content-Type", "application/json")
+                        .header("cloudbank-correlation-id", UUID.randomUUID().toString())
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(mobileNumbers)))
+                        .build();
+            }
+        };
+    }
+
+    private static Map<String, Object> customer(long mobileNumber, String name) {
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", name);
+        customer.put("email", "customer" + mobileNumber + "@fakemail.com");
+        customer.put("mobileNumber", Long.toString(mobileNumber));
+        return customer;
+    }
+
+    private void report() {
+        double seconds = options.duration.toMillis() / 1000.0;
+        System.out.printf("%n%-28s %9s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            System.out.printf("%-28s %9d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.endpointName(),
+                    histogram.getTotalCount(),
+                    errors.get(endpoint).sum(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+}
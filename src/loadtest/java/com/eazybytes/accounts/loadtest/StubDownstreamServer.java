@@ -0,0 +1,95 @@
+package com.eazybytes.accounts.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Minimal HTTP server standing in for the loans or cards service. Every {@code GET /api/fetch}
+ * is answered after the configured latency (with up to 50% jitter), and fails with a 503 at the
+ * configured error rate.
+ */
+final class StubDownstreamServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final double errorRate;
+    private final Function<String, String> responseBody;
+
+    private StubDownstreamServer(long latencyMillis, double errorRate, Function<String, String> responseBody) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.responseBody = responseBody;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.createContext("/api/fetch", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    static StubDownstreamServer loans(long latencyMillis, double errorRate) throws IOException {
+        return new StubDownstreamServer(latencyMillis, errorRate, mobileNumber ->
+                "{\"mobileNumber\":\"" + mobileNumber + "\",\"loanNumber\":\"944271603827\",\"loanType\":\"Home Loan\","
+                        + "\"totalLoan\":30000,\"amountPaid\":10500,\"outstandingAmount\":19500}");
+    }
+
+    static StubDownstreamServer cards(long latencyMillis, double errorRate) throws IOException {
+        return new StubDownstreamServer(latencyMillis, errorRate, mobileNumber ->
+                "{\"mobileNumber\":\"" + mobileNumber + "\",\"cardNumber\":\"422378884160\",\"cardType\":\"Credit\","
+                        + "\"totalLimit\":50000,\"amountUsed\":20000,\"availableAmount\":30000}");
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis + random.nextLong(latencyMillis / 2 + 1));
+            }
+            if (random.nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            byte[] body = responseBody.apply(mobileNumber(exchange.getRequestURI().getRawQuery()))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String mobileNumber(String query) {
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("mobileNumber=")) {
+                    return parameter.substring("mobileNumber=".length());
+                }
+            }
+        }
+        return "";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
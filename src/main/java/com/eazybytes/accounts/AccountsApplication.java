@@ -1,5 +1,13 @@
 package com.eazybytes.accounts;
 
+import com.eazybytes.accounts.config.AccountNumberProperties;
+import com.eazybytes.accounts.config.AccountsBulkProperties;
+import com.eazybytes.accounts.config.AuditProperties;
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.config.MobileNumberFilterProperties;
+import com.eazybytes.accounts.config.OutboxProperties;
+import com.eazybytes.accounts.config.SecondLevelCacheProperties;
+import com.eazybytes.accounts.config.VirtualThreadsProperties;
 import com.eazybytes.accounts.dto.AccountsContactInfoDto;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
@@ -9,6 +17,7 @@ import io.swagger.v3.oas.annotations.info.License;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
@@ -33,8 +42,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 		)
 )
 @EnableJpaAuditing(auditorAwareRef = "auditAwareImpl")
-@EnableConfigurationProperties(value = {AccountsContactInfoDto.class})
+@EnableConfigurationProperties(value = {AccountsContactInfoDto.class, CustomerDetailsProperties.class, AccountsBulkProperties.class,
+		AccountNumberProperties.class, VirtualThreadsProperties.class, SecondLevelCacheProperties.class,
+		AuditProperties.class, OutboxProperties.class, MobileNumberFilterProperties.class})
 @EnableFeignClients
+@EnableCaching
 @SpringBootApplication
 public class AccountsApplication {
 	public static void main(String[] args) {
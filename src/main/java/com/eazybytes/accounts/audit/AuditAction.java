@@ -0,0 +1,7 @@
+package com.eazybytes.accounts.audit;
+
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,23 @@
+package com.eazybytes.accounts.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * One change to a customer and its account. The states are snapshots taken when the change was
+ * made and are only serialized by the audit writer thread.
+ */
+@Getter @AllArgsConstructor
+public class AuditEvent {
+
+    private final Instant occurredAt;
+    private final AuditAction action;
+    private final String entityType;
+    private final String entityId;
+    private final String correlationId;
+    private final String actor;
+    private final Object beforeState;
+    private final Object afterState;
+}
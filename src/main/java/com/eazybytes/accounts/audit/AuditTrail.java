@@ -0,0 +1,49 @@
+package com.eazybytes.accounts.audit;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+
+/**
+ * Entry point for the service layer to record changes. Events are handed to the
+ * {@link AuditTrailWriter} once the surrounding transaction commits, so rolled back changes are
+ * never audited and the caller never waits for the audit insert.
+ */
+@Component
+@AllArgsConstructor
+public class AuditTrail {
+
+    public static final String CORRELATION_ID_HEADER = "cloudbank-correlation-id";
+
+    private AuditTrailWriter auditTrailWriter;
+    private AuditAwareImpl auditAwareImpl;
+
+    public void record(AuditAction action, String entityType, String entityId, Object beforeState, Object afterState) {
+        AuditEvent auditEvent = new AuditEvent(Instant.now(), action, entityType, entityId, currentCorrelationId(),
+                auditAwareImpl.getCurrentAuditor().orElse(null), beforeState, afterState);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            auditTrailWriter.offer(auditEvent);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditTrailWriter.offer(auditEvent);
+            }
+        });
+    }
+
+    private static String currentCorrelationId() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return servletRequestAttributes.getRequest().getHeader(CORRELATION_ID_HEADER);
+        }
+        return null;
+    }
+}
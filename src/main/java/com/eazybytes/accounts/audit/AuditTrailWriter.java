@@ -0,0 +1,203 @@
+package com.eazybytes.accounts.audit;
+
+import com.eazybytes.accounts.config.AuditProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends audit events to the {@code audit_trail} table from a single background thread. Producers
+ * only touch a lock-free queue whose size is bounded by a CAS-reserved slot counter; the writer
+ * drains it in JDBC batches every flush interval, or as soon as a full batch is waiting.
+ * <p>
+ * Before and after states are stored as JSON holding only the fields that changed.
+ */
+@Component
+public class AuditTrailWriter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditTrailWriter.class);
+
+    private static final String INSERT_AUDIT_EVENT = "insert into audit_trail (occurred_at, action, entity_type, " +
+            "entity_id, correlation_id, actor, before_state, after_state) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditProperties auditProperties;
+    private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Counter writtenEvents;
+    private final Counter droppedEvents;
+    private final Counter failedEvents;
+    private final Timer flushTimer;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public AuditTrailWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AuditProperties auditProperties,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.auditProperties = auditProperties;
+        meterRegistry.gauge("accounts.audit.queue.depth", depth);
+        this.writtenEvents = eventCounter(meterRegistry, "written");
+        this.droppedEvents = eventCounter(meterRegistry, "dropped");
+        this.failedEvents = eventCounter(meterRegistry, "failed");
+        this.flushTimer = Timer.builder("accounts.audit.flush")
+                .description("Time to write one batch of audit events")
+                .register(meterRegistry);
+        this.writerThread = new Thread(this::run, "audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.audit.events")
+                .description("Audit events, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an event for writing. Returns {@code false} when the queue stayed full and the event
+     * was dropped under the configured overflow policy.
+     */
+    public boolean offer(AuditEvent auditEvent) {
+        if (!reserveSlot()) {
+            droppedEvents.increment();
+            return false;
+        }
+        queue.offer(auditEvent);
+        if (depth.get() >= auditProperties.getBatchSize()) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    private boolean reserveSlot() {
+        if (tryReserveSlot()) {
+            return true;
+        }
+        if (auditProperties.getOverflowPolicy() != AuditProperties.OverflowPolicy.BLOCK) {
+            return false;
+        }
+        LockSupport.unpark(writerThread);
+        long deadline = System.nanoTime() + auditProperties.getBlockTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (tryReserveSlot()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tryReserveSlot() {
+        int capacity = auditProperties.getQueueCapacity();
+        int current;
+        do {
+            current = depth.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!depth.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void run() {
+        long flushIntervalNanos = auditProperties.getFlushInterval().toNanos();
+        while (running) {
+            if (depth.get() < auditProperties.getBatchSize()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            flush();
+        }
+        flush();
+    }
+
+    private void flush() {
+        int batchSize = auditProperties.getBatchSize();
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        AuditEvent auditEvent;
+        do {
+            batch.clear();
+            while (batch.size() < batchSize && (auditEvent = queue.poll()) != null) {
+                depth.decrementAndGet();
+                batch.add(auditEvent);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (AuditEvent auditEvent : batch) {
+                rows.add(toRow(auditEvent));
+            }
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_AUDIT_EVENT, rows));
+            writtenEvents.increment(batch.size());
+        } catch (RuntimeException ex) {
+            failedEvents.increment(batch.size());
+            logger.error("Failed to write {} audit events", batch.size(), ex);
+        }
+    }
+
+    private Object[] toRow(AuditEvent auditEvent) {
+        JsonNode before = auditEvent.getBeforeState() == null ? null : objectMapper.valueToTree(auditEvent.getBeforeState());
+        JsonNode after = auditEvent.getAfterState() == null ? null : objectMapper.valueToTree(auditEvent.getAfterState());
+        if (before instanceof ObjectNode beforeNode && after instanceof ObjectNode afterNode) {
+            retainChanges(beforeNode, afterNode);
+        }
+        return new Object[]{Timestamp.from(auditEvent.getOccurredAt()), auditEvent.getAction().name(),
+                auditEvent.getEntityType(), auditEvent.getEntityId(), auditEvent.getCorrelationId(), auditEvent.getActor(),
+                before == null ? null : before.toString(), after == null ? null : after.toString()};
+    }
+
+    private static void retainChanges(ObjectNode before, ObjectNode after) {
+        Set<String> fieldNames = new LinkedHashSet<>();
+        before.fieldNames().forEachRemaining(fieldNames::add);
+        after.fieldNames().forEachRemaining(fieldNames::add);
+        for (String fieldName : fieldNames) {
+            JsonNode beforeValue = before.get(fieldName);
+            JsonNode afterValue = after.get(fieldName);
+            if (beforeValue instanceof ObjectNode beforeNode && afterValue instanceof ObjectNode afterNode) {
+                retainChanges(beforeNode, afterNode);
+                if (!beforeNode.isEmpty() || !afterNode.isEmpty()) {
+                    continue;
+                }
+            } else if (!Objects.equals(beforeValue, afterValue)) {
+                continue;
+            }
+            before.remove(fieldName);
+            after.remove(fieldName);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
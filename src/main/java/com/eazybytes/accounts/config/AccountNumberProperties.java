@@ -0,0 +1,13 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "accounts.account-number")
+@Getter @Setter
+public class AccountNumberProperties {
+
+    private int blockSize = 100;
+    private boolean checkDigit = true;
+}
@@ -0,0 +1,15 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.bulk")
+@Getter @Setter
+public class AccountsBulkProperties {
+
+    private int chunkSize = 500;
+    private Duration exportTimeout = Duration.ofHours(1);
+}
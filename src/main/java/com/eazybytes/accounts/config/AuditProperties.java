@@ -0,0 +1,25 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.audit")
+@Getter @Setter
+public class AuditProperties {
+
+    private int queueCapacity = 10_000;
+    private int batchSize = 200;
+    private Duration flushInterval = Duration.ofMillis(500);
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(100);
+
+    public enum OverflowPolicy {
+        /** Drop the event and count it. */
+        DROP,
+        /** Make the caller wait up to the block timeout for room in the queue, then drop. */
+        BLOCK
+    }
+}
@@ -0,0 +1,21 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.customer-details")
+@Getter @Setter
+public class CustomerDetailsProperties {
+
+    private int corePoolSize = 16;
+    private int maxPoolSize = 64;
+    private int queueCapacity = 500;
+    private Duration downstreamTimeout = Duration.ofSeconds(2);
+    private Duration freshTtl = Duration.ofSeconds(30);
+    private Duration staleTtl = Duration.ofHours(1);
+    private long responseCacheMaximumSize = 100_000;
+    private int batchChunkSize = 100;
+}
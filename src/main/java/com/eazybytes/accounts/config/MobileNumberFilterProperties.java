@@ -0,0 +1,20 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.mobile-number-filter")
+@Getter @Setter
+public class MobileNumberFilterProperties {
+
+    /** Only safe when this instance is the single writer of the customer table. */
+    private boolean enabled = false;
+    /** Lower bound for the number of mobile numbers the filter is sized for. */
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+    /** How often the filter is rebuilt from the customer table, dropping deleted numbers. */
+    private Duration rebuildInterval = Duration.ofMinutes(1);
+}
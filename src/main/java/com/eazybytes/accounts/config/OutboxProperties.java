@@ -0,0 +1,19 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.outbox")
+@Getter @Setter
+public class OutboxProperties {
+
+    private int batchSize = 100;
+    private Duration pollInterval = Duration.ofMillis(200);
+    private int parallelism = 2;
+    /** {@code memory} or {@code file}, both only with the {@code test} profile. */
+    private String publisher;
+    private String file = "outbox-events.ndjson";
+}
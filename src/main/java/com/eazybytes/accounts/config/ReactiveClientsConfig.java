@@ -0,0 +1,29 @@
+package com.eazybytes.accounts.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveClientsConfig {
+
+    public static final String LOAD_BALANCED_WEB_CLIENT = "loadBalancedWebClient";
+
+    // a WebClient rather than a @LoadBalanced builder, so Boot's WebClient.Builder stays the default for everyone else
+    @Bean(LOAD_BALANCED_WEB_CLIENT)
+    public WebClient loadBalancedWebClient(WebClient.Builder webClientBuilder,
+                                           ReactorLoadBalancerExchangeFilterFunction loadBalancerExchangeFilterFunction) {
+        return webClientBuilder.filter(loadBalancerExchangeFilterFunction).build();
+    }
+
+    // blocking JPA lookups of the reactive path never use more threads than there are connections
+    @Bean(destroyMethod = "dispose")
+    public Scheduler accountsLookupScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                             CustomerDetailsProperties customerDetailsProperties) {
+        return Schedulers.newBoundedElastic(maximumPoolSize, customerDetailsProperties.getQueueCapacity(), "accounts-lookup");
+    }
+}
@@ -0,0 +1,15 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "accounts.second-level-cache")
+@Getter @Setter
+public class SecondLevelCacheProperties {
+
+    private long maximumSize = 10_000;
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
@@ -0,0 +1,57 @@
+package com.eazybytes.accounts.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Serves web requests and runs the Resilience4j-decorated Feign calls on virtual threads. The
+ * downstream fan-out executor switches itself over in {@code DownstreamExecutor}.
+ * <p>
+ * Every request still gets its own virtual thread, but a semaphore of
+ * {@code accounts.virtual-threads.max-concurrent-requests} permits, which defaults to
+ * {@code spring.datasource.hikari.maximum-pool-size}, takes the place of
+ * {@code server.tomcat.threads.max}: requests beyond it park on the permit instead of piling up on
+ * the Hikari pool and failing after {@code connection-timeout}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "accounts.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer(
+            VirtualThreadsProperties virtualThreadsProperties) {
+        int maxConcurrentRequests = virtualThreadsProperties.getMaxConcurrentRequests();
+        logger.info("Serving web requests on virtual threads, at most {} at once", maxConcurrentRequests);
+        return protocolHandler -> protocolHandler.setExecutor(bounded(
+                VirtualThreads.newVirtualThreadPerTaskExecutor("tomcat-"), new Semaphore(maxConcurrentRequests)));
+    }
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> virtualThreadsCircuitBreakerCustomizer() {
+        return factory -> factory.configureExecutorService(VirtualThreads.newVirtualThreadPerTaskExecutor("circuitbreaker-"));
+    }
+
+    // the permit is taken on the virtual thread, so Tomcat's poller never blocks on it
+    private static Executor bounded(ExecutorService executorService, Semaphore permits) {
+        return task -> executorService.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.eazybytes.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "accounts.virtual-threads")
+@Getter @Setter
+public class VirtualThreadsProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Requests processed at once on virtual threads; the rest wait for a permit. Defaults to the
+     * Hikari pool size in application.yml.
+     */
+    private int maxConcurrentRequests = 10;
+}
@@ -8,10 +8,15 @@ public final class AccountsConstants {
 
     public static final String SAVINGS = "Savings";
     public static final String ADDRESS = "123 Main Street, New York";
+    public static final String ACCOUNTS_CACHE = "accounts";
+    public static final String SERVICE_METRIC = "accounts.service";
     public static final String STATUS_201 = "201";
     public static final String MESSAGE_201 = "Account created successfully";
     public static final String STATUS_200 = "200";
     public static final String MESSAGE_200 = "Request processed successfully";
+    public static final String STATUS_400 = "400";
+    public static final String MESSAGE_400_DUPLICATE = "Customer is already registered with the given mobile number";
+    public static final String STATUS_404 = "404";
     public static final String STATUS_417 = "417";
     public static final String MESSAGE_417_UPDATE= "Update operation failed. Please try again or contact Dev team";
     public static final String MESSAGE_417_DELETE= "Delete operation failed. Please try again or contact Dev team";
@@ -1,11 +1,19 @@
 package com.eazybytes.accounts.controller;
 
+import com.eazybytes.accounts.config.AccountsBulkProperties;
 import com.eazybytes.accounts.constants.AccountsConstants;
 import com.eazybytes.accounts.dto.AccountsContactInfoDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
 import com.eazybytes.accounts.dto.CustomerDto;
 import com.eazybytes.accounts.dto.ErrorResponseDto;
+import com.eazybytes.accounts.dto.PurgeResultDto;
 import com.eazybytes.accounts.dto.SuccessResponseDto;
 import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,20 +22,32 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
 
 @Tag(
         name = "CRUD endpoints for the Accounts microservice",
@@ -54,6 +74,12 @@ public class AccountsController {
     @Autowired
     private AccountsContactInfoDto accountsContactInfoDto;
 
+    @Autowired
+    private AccountsBulkProperties accountsBulkProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Operation(
           summary = "Create Account endpoint",
           description = "REST API endpoint to create a new Account and a new Customer"
@@ -78,6 +104,149 @@ public class AccountsController {
                 .status(HttpStatus.CREATED)
                 .body(new SuccessResponseDto(AccountsConstants.STATUS_201, AccountsConstants.MESSAGE_201));
     }
+    @Operation(
+            summary = "Bulk Create Accounts endpoint",
+            description = "REST API endpoint to create new Accounts and Customers from a JSON array of Customer DTOs"
+    )
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "HTTP Status OK, with one result per submitted record"
+        ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "HTTP Status INTERNAL SERVER ERROR",
+                content = @Content(
+                        schema = @Schema(implementation= ErrorResponseDto.class)
+                )
+        )
+    })
+    @PostMapping(path = "/create-bulk", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<List<BulkCreateResultDto>> createAccounts(@RequestBody List<CustomerDto> customerDtos) {
+        List<BulkCreateResultDto> results = iAccountsService.createAccounts(customerDtos);
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+
+    @Operation(
+            summary = "Bulk Create Accounts endpoint (NDJSON)",
+            description = "REST API endpoint to create new Accounts and Customers from a newline-delimited stream of Customer DTOs"
+    )
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "HTTP Status OK, with one result per submitted record"
+        ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "HTTP Status INTERNAL SERVER ERROR",
+                content = @Content(
+                        schema = @Schema(implementation= ErrorResponseDto.class)
+                )
+        )
+    })
+    @PostMapping(path = "/create-bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<BulkCreateResultDto>> createAccountsFromStream(InputStream inputStream) throws IOException {
+        int chunkSize = accountsBulkProperties.getChunkSize();
+        List<BulkCreateResultDto> results = new ArrayList<>();
+        List<CustomerDto> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<CustomerDto> customerDtos = objectMapper.readerFor(CustomerDto.class).readValues(inputStream)) {
+            while (customerDtos.hasNextValue()) {
+                chunk.add(customerDtos.nextValue());
+                if (chunk.size() == chunkSize) {
+                    results.addAll(iAccountsService.createAccounts(chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(iAccountsService.createAccounts(chunk));
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(results);
+    }
+
+    @Operation(
+            summary = "List Accounts endpoint",
+            description = "REST API endpoint to list Accounts by account number, optionally filtered by account type and branch address"
+    )
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "HTTP Status OK"
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "HTTP Status BAD REQUEST",
+                content = @Content(
+                        schema = @Schema(implementation= ErrorResponseDto.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "HTTP Status INTERNAL SERVER ERROR",
+                content = @Content(
+                        schema = @Schema(implementation= ErrorResponseDto.class)
+                )
+        )
+    })
+    @GetMapping("/accounts")
+    public ResponseEntity<AccountsPageDto> listAccounts(@RequestParam(required = false) String accountType,
+                                                        @RequestParam(required = false) String branchAddress,
+                                                        @RequestParam(required = false) String pageToken,
+                                                        @RequestParam(defaultValue = "50")
+                                                            @Min(value = 1, message = "Page size must be at least 1.")
+                                                            @Max(value = 500, message = "Page size must be at most 500.")
+                                                            int pageSize) {
+        AccountsPageDto accountsPageDto = iAccountsService.listAccounts(accountType, branchAddress, pageToken, pageSize);
+        return ResponseEntity.status(HttpStatus.OK).body(accountsPageDto);
+    }
+
+    @Operation(
+            summary = "Export Accounts endpoint",
+            description = "REST API endpoint to stream every Customer with its Account as newline-delimited JSON, gzip-compressed when the client accepts it"
+    )
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "HTTP Status OK"
+        ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "HTTP Status INTERNAL SERVER ERROR",
+                content = @Content(
+                        schema = @Schema(implementation= ErrorResponseDto.class)
+                )
+        )
+    })
+    @GetMapping(path = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE})
+    public WebAsyncTask<Void> exportAccounts(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                             HttpServletResponse response) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        // the export outlives the default async request timeout, so it runs as its own task
+        return new WebAsyncTask<>(accountsBulkProperties.getExportTimeout().toMillis(), () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            OutputStream outputStream = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192)
+                    : response.getOutputStream();
+            try (SequenceWriter writer = objectMapper.writerFor(CustomerDto.class)
+                    .withRootValueSeparator("\n")
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .writeValues(outputStream)) {
+                iAccountsService.exportAccounts(customerDto -> {
+                    try {
+                        writer.write(customerDto);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                // the root value separator only goes between records, so an empty export is an empty body
+                writer.flush();
+            }
+            return null;
+        });
+    }
+
     @Operation(
             summary = "Fetch Account Details endpoint",
             description = "REST API endpoint to fetch Account and Customer details"
@@ -111,6 +280,13 @@ public class AccountsController {
                 responseCode = "200",
                 description = "HTTP Status OK"
         ),
+        @ApiResponse(
+                responseCode = "409",
+                description = "HTTP Status CONFLICT, the versions sent are not the current ones",
+                content = @Content(
+                    schema = @Schema(implementation = ErrorResponseDto.class)
+                )
+        ),
         @ApiResponse(
                 responseCode = "417",
                 description = "HTTP Status EXPECTATION FAILED"
@@ -174,6 +350,31 @@ public class AccountsController {
         }
     }
 
+    @Operation(
+            summary = "Purge Accounts/Customers endpoint",
+            description = "REST API endpoint to delete the Accounts and Customers of a list of mobile phone numbers in one transaction"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status INTERNAL SERVER ERROR",
+                    content = @Content(
+                        schema = @Schema(implementation = ErrorResponseDto.class)
+            )
+            )
+    })
+    @PostMapping(path = "/purge", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PurgeResultDto> purgeAccounts(@RequestBody List<String> mobileNumbers) {
+        PurgeResultDto purgeResultDto = iAccountsService.deleteAccounts(mobileNumbers);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(purgeResultDto);
+    }
+
     @Operation(
             summary = "Get Build information",
             description = "Get Build information that is deployed into Accounts microservice"
@@ -3,6 +3,9 @@ package com.eazybytes.accounts.controller;
 import com.eazybytes.accounts.dto.CustomerDetailsDto;
 import com.eazybytes.accounts.dto.ErrorResponseDto;
 import com.eazybytes.accounts.service.ICustomerService;
+import com.eazybytes.accounts.service.IReactiveCustomerService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -17,6 +20,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @Tag(
         name = "REST API for Customers in Cloudbank",
@@ -30,9 +39,14 @@ public class CustomerController {
     private static final Logger logger = LoggerFactory.getLogger(CustomerController.class);
 
     private final ICustomerService iCustomerService;
+    private final IReactiveCustomerService iReactiveCustomerService;
+    private final ObjectMapper objectMapper;
 
-    public CustomerController(ICustomerService iCustomerService) {
+    public CustomerController(ICustomerService iCustomerService, IReactiveCustomerService iReactiveCustomerService,
+                              ObjectMapper objectMapper) {
         this.iCustomerService = iCustomerService;
+        this.iReactiveCustomerService = iReactiveCustomerService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
@@ -63,4 +77,73 @@ public class CustomerController {
                 .status(HttpStatus.OK)
                 .body(customerDetailsDto);
     }
+
+    @Operation(
+            summary = "Fetch Customer Details REST API (non-blocking)",
+            description = "Non-blocking variant of the endpoint to fetch Customer details based on a mobile number"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status INTERNAL SERVER ERROR",
+                    content = @Content(
+                            schema = @Schema(implementation= ErrorResponseDto.class)
+                    )
+            )
+    })
+    @GetMapping("/fetchCustomerDetailsReactive")
+    public Mono<ResponseEntity<CustomerDetailsDto>> fetchCustomerDetailsReactive(@RequestHeader("cloudbank-correlation-id")String correlationId,
+                                                                                 @RequestParam @Pattern(regexp = "(^$|[0-9]{10})", message="Mobile number must be 10 digits.")
+                                                                                 String mobileNumber) {
+        logger.debug("fetchCustomerDetailsReactive method start");
+        return iReactiveCustomerService.fetchCustomerDetails(mobileNumber, correlationId)
+                .map(customerDetailsDto -> ResponseEntity
+                        .status(HttpStatus.OK)
+                        .body(customerDetailsDto));
+    }
+
+    @Operation(
+            summary = "Fetch Customer Details in batch REST API",
+            description = "REST API endpoint to fetch Customer details for a list of mobile numbers, streamed as a JSON array with one result per mobile number"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "HTTP Status OK, with a per mobile number status code"
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "HTTP Status INTERNAL SERVER ERROR",
+                    content = @Content(
+                            schema = @Schema(implementation= ErrorResponseDto.class)
+                    )
+            )
+    })
+    @PostMapping(path = "/fetchCustomerDetailsBatch", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> fetchCustomerDetailsBatch(@RequestHeader("cloudbank-correlation-id")String correlationId,
+                                                                           @RequestBody List<String> mobileNumbers) {
+        logger.debug("fetchCustomerDetailsBatch method start, {} mobile numbers", mobileNumbers.size());
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                iCustomerService.fetchCustomerDetails(mobileNumbers, correlationId, result -> {
+                    try {
+                        generator.writeObject(result);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+            logger.debug("fetchCustomerDetailsBatch method end");
+        };
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
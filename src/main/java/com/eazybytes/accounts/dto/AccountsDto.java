@@ -33,4 +33,10 @@ public class AccountsDto {
     )
     @NotEmpty(message = "Branch Address cannot be null or empty.")
     private String branchAddress;
+
+    @Schema(
+            description = "Version of the bank account record as last read. Updates must send it back unchanged",
+            example = "0"
+    )
+    private Long version;
 }
@@ -0,0 +1,22 @@
+package com.eazybytes.accounts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Schema(
+        name="Accounts Page",
+        description="Schema to hold one page of an account listing"
+)
+@Data @AllArgsConstructor
+public class AccountsPageDto {
+
+    @Schema(description="Accounts on this page, ordered by account number")
+    private List<AccountsDto> accounts;
+
+    @Schema(description="Opaque token to pass as pageToken to fetch the next page; absent on the last page")
+    private String nextPageToken;
+
+}
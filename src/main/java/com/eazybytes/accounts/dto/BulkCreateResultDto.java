@@ -0,0 +1,23 @@
+package com.eazybytes.accounts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Schema(
+        name="Bulk Create Result",
+        description="Schema to hold the outcome of one record of a bulk create request"
+)
+@Data @AllArgsConstructor
+public class BulkCreateResultDto {
+
+    @Schema(description="Mobile phone number of the submitted customer")
+    private String mobileNumber;
+
+    @Schema(description="Status code for this record")
+    private String statusCode;
+
+    @Schema(description="Status message for this record")
+    private String statusMsg;
+
+}
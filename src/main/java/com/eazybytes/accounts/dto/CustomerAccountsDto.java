@@ -0,0 +1,30 @@
+package com.eazybytes.accounts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Flat read-only projection of a customer row joined with its account row. Account columns are
+ * null when the customer has no account.
+ */
+@Data @AllArgsConstructor
+public class CustomerAccountsDto {
+
+    private Long customerId;
+
+    private String name;
+
+    private String email;
+
+    private String mobileNumber;
+
+    private Long accountNumber;
+
+    private String accountType;
+
+    private String branchAddress;
+
+    private Long customerVersion;
+
+    private Long accountVersion;
+}
@@ -51,4 +51,9 @@ public class CustomerDetailsDto {
             description="Cards details of the Customer"
     )
     private CardsDto cardsDto;
+
+    @Schema(
+            description="Whether the loans or cards details were served from the last known response", example="false"
+    )
+    private boolean stale;
 }
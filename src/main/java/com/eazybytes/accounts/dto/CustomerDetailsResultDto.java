@@ -0,0 +1,26 @@
+package com.eazybytes.accounts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Schema(
+        name="Customer Details Result",
+        description="Schema to hold the outcome of one mobile number of a batch customer details request"
+)
+@Data @AllArgsConstructor
+public class CustomerDetailsResultDto {
+
+    @Schema(description="Requested mobile phone number")
+    private String mobileNumber;
+
+    @Schema(description="Status code for this mobile number")
+    private String statusCode;
+
+    @Schema(description="Status message for this mobile number")
+    private String statusMsg;
+
+    @Schema(description="Customer, Account, Cards, and Loans information, when found")
+    private CustomerDetailsDto customerDetailsDto;
+
+}
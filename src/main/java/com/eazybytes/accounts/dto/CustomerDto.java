@@ -37,6 +37,12 @@ public class CustomerDto {
     @Pattern(regexp="(^$|[0-9]{10})", message="Mobile phone number must be exactly 10 digits.")
     private String mobileNumber;
 
+    @Schema(
+            description="Version of the customer record as last read. Updates must send it back unchanged",
+            example="0"
+    )
+    private Long version;
+
     @Schema(
             description="Customer account details"
     )
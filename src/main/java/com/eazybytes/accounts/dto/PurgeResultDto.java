@@ -0,0 +1,20 @@
+package com.eazybytes.accounts.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Schema(
+        name="Purge Result",
+        description="Schema to hold the outcome of a purge request"
+)
+@Data @AllArgsConstructor
+public class PurgeResultDto {
+
+    @Schema(description="Number of distinct mobile numbers submitted")
+    private int requested;
+
+    @Schema(description="Number of customers deleted together with their accounts")
+    private int deleted;
+
+}
@@ -2,10 +2,21 @@ package com.eazybytes.accounts.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 @Entity
+@Table(name="accounts", indexes = {
+        @Index(name="ix_accounts_customer_id", columnList="customer_id"),
+        @Index(name="ix_accounts_type_branch_number", columnList="account_type, branch_address, account_number")
+})
+@Cacheable
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region=Accounts.CACHE_REGION)
 @Getter @Setter @ToString @AllArgsConstructor @NoArgsConstructor
-public class Accounts extends BaseEntity {
+public class Accounts extends BaseEntity implements Persistable<Long> {
+
+    public static final String CACHE_REGION = "accounts-entity";
 
     @Column(name="customer_id")
     private Long customerId;
@@ -19,4 +30,25 @@ public class Accounts extends BaseEntity {
 
     @Column(name="branch_address")
     private String branchAddress;
+
+    // account numbers are assigned by the application, so newness cannot be derived from the id
+    @Transient
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return accountNumber;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -2,15 +2,28 @@ package com.eazybytes.accounts.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
+@Table(name="customer", indexes = {
+        @Index(name=Customer.MOBILE_NUMBER_INDEX, columnList="mobile_number", unique=true)
+})
+@Cacheable
+@Cache(usage=CacheConcurrencyStrategy.READ_WRITE, region=Customer.CACHE_REGION)
+@NaturalIdCache(region=Customer.NATURAL_ID_CACHE_REGION)
 @Getter @Setter @ToString @AllArgsConstructor @NoArgsConstructor
 public class Customer extends BaseEntity {
 
+    public static final String MOBILE_NUMBER_INDEX = "ux_customer_mobile_number";
+    public static final String CACHE_REGION = "customer-entity";
+    public static final String NATURAL_ID_CACHE_REGION = "customer-mobile-number";
+
     @Id
-    @GeneratedValue(strategy=GenerationType.AUTO, generator="native")
-    @GenericGenerator(name="native", strategy="native")
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="customer_seq")
+    @SequenceGenerator(name="customer_seq", sequenceName="customer_seq", allocationSize=50)
     @Column(name="customer_id")
     private Long customerId;
 
@@ -18,6 +31,7 @@ public class Customer extends BaseEntity {
 
     private String email;
 
+    @NaturalId(mutable=true)
     @Column(name="mobile_number")
     private String mobileNumber;
 }
@@ -5,6 +5,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @ResponseStatus(value=HttpStatus.BAD_REQUEST)
 public class CustomerAlreadyExistsException extends RuntimeException {
     public CustomerAlreadyExistsException(String message) {
-        super(message);
+        // expected business outcome, so no stack trace is captured
+        super(message, null, false, false);
     }
 }
@@ -1,6 +1,7 @@
 package com.eazybytes.accounts.exception;
 
 import com.eazybytes.accounts.dto.ErrorResponseDto;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -37,35 +38,44 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGlobalException(Exception exception, WebRequest webRequest) {
-        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
-                webRequest.getDescription(false),
-                HttpStatus.INTERNAL_SERVER_ERROR,
-                exception.getMessage(),
-                LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorResponseDTO, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage(), webRequest);
     }
     @ExceptionHandler(CustomerAlreadyExistsException.class)
     public ResponseEntity<ErrorResponseDto> handleCustomerAlreadyExistsException(CustomerAlreadyExistsException exception,
                                                                                  WebRequest webRequest){
-        ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
-                webRequest.getDescription(false),
-                HttpStatus.BAD_REQUEST,
-                exception.getMessage(),
-                LocalDateTime.now()
-        );
-        return new ResponseEntity<>(errorResponseDTO, HttpStatus.BAD_REQUEST);
+        return errorResponse(HttpStatus.BAD_REQUEST, exception.getMessage(), webRequest);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception,
+                                                                                    WebRequest webRequest){
+        return errorResponse(HttpStatus.CONFLICT,
+                "The record was modified by another request. Please reload it and try again", webRequest);
+    }
+
+    @ExceptionHandler(InvalidPageTokenException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidPageTokenException(InvalidPageTokenException exception,
+                                                                            WebRequest webRequest){
+        return errorResponse(HttpStatus.BAD_REQUEST, exception.getMessage(), webRequest);
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleResourceNotFoundException(ResourceNotFoundException exception,
                                                                                  WebRequest webRequest){
+        return errorResponse(HttpStatus.NOT_FOUND, exception.getMessage(), webRequest);
+    }
+
+    /**
+     * Builds the error body shared by every handler.
+     */
+    private static ResponseEntity<ErrorResponseDto> errorResponse(HttpStatus status, String message,
+                                                                  WebRequest webRequest) {
         ErrorResponseDto errorResponseDTO = new ErrorResponseDto(
                 webRequest.getDescription(false),
-                HttpStatus.NOT_FOUND,
-                exception.getMessage(),
+                status,
+                message,
                 LocalDateTime.now()
         );
-        return new ResponseEntity<>(errorResponseDTO, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(errorResponseDTO, status);
     }
 }
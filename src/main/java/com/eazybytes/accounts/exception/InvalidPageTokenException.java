@@ -0,0 +1,12 @@
+package com.eazybytes.accounts.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value=HttpStatus.BAD_REQUEST)
+public class InvalidPageTokenException extends RuntimeException {
+    public InvalidPageTokenException(String pageToken) {
+        // expected business outcome, so no stack trace is captured
+        super("Invalid page token: '" + pageToken + "'", null, false, false);
+    }
+}
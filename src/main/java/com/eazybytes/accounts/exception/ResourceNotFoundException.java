@@ -3,9 +3,14 @@ package com.eazybytes.accounts.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Expected outcome of a lookup miss. Probing clients can cause many of these, so the stack trace
+ * is not captured: it is never logged and filling it in dominates the cost of a 404.
+ */
 @ResponseStatus(value=HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String resourceName, String fieldName, String fieldValue) {
-        super(String.format("%s not found with the given input data %s: '%s'", resourceName, fieldName, fieldValue));
+        super(resourceName + " not found with the given input data " + fieldName + ": '" + fieldValue + "'",
+                null, false, false);
     }
 }
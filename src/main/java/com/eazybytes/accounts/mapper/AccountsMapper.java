@@ -1,6 +1,7 @@
 package com.eazybytes.accounts.mapper;
 
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.CustomerAccountsDto;
 import com.eazybytes.accounts.entity.Accounts;
 
 public class AccountsMapper {
@@ -9,6 +10,15 @@ public class AccountsMapper {
         accountsDto.setAccountNumber(accounts.getAccountNumber());
         accountsDto.setAccountType(accounts.getAccountType());
         accountsDto.setBranchAddress(accounts.getBranchAddress());
+        accountsDto.setVersion(accounts.getVersion());
+        return accountsDto;
+    }
+
+    public static AccountsDto mapToAccountsDto(CustomerAccountsDto customerAccountsDto, AccountsDto accountsDto) {
+        accountsDto.setAccountNumber(customerAccountsDto.getAccountNumber());
+        accountsDto.setAccountType(customerAccountsDto.getAccountType());
+        accountsDto.setBranchAddress(customerAccountsDto.getBranchAddress());
+        accountsDto.setVersion(customerAccountsDto.getAccountVersion());
         return accountsDto;
     }
 
@@ -1,5 +1,6 @@
 package com.eazybytes.accounts.mapper;
 
+import com.eazybytes.accounts.dto.CustomerAccountsDto;
 import com.eazybytes.accounts.dto.CustomerDetailsDto;
 import com.eazybytes.accounts.dto.CustomerDto;
 import com.eazybytes.accounts.entity.Customer;
@@ -10,6 +11,15 @@ public class CustomerMapper {
         customerDto.setName(customer.getName());
         customerDto.setEmail(customer.getEmail());
         customerDto.setMobileNumber(customer.getMobileNumber());
+        customerDto.setVersion(customer.getVersion());
+        return customerDto;
+    }
+
+    public static CustomerDto mapToCustomerDto(CustomerAccountsDto customerAccountsDto, CustomerDto customerDto) {
+        customerDto.setName(customerAccountsDto.getName());
+        customerDto.setEmail(customerAccountsDto.getEmail());
+        customerDto.setMobileNumber(customerAccountsDto.getMobileNumber());
+        customerDto.setVersion(customerAccountsDto.getCustomerVersion());
         return customerDto;
     }
 
@@ -20,6 +30,14 @@ public class CustomerMapper {
         return customerDetailsDto;
     }
 
+    public static CustomerDetailsDto mapToCustomerDetailsDto(CustomerDto customerDto, CustomerDetailsDto customerDetailsDto) {
+        customerDetailsDto.setName(customerDto.getName());
+        customerDetailsDto.setEmail(customerDto.getEmail());
+        customerDetailsDto.setMobileNumber(customerDto.getMobileNumber());
+        customerDetailsDto.setAccountsDto(customerDto.getAccountsDto());
+        return customerDetailsDto;
+    }
+
     public static Customer mapToCustomer(CustomerDto customerDto, Customer customer) {
         customer.setName(customerDto.getName());
         customer.setEmail(customerDto.getEmail());
@@ -0,0 +1,28 @@
+package com.eazybytes.accounts.mapper;
+
+/**
+ * Mobile numbers are exactly 10 digits, so they fit in a {@code long} key for the in-memory
+ * lookup structures.
+ */
+public class MobileNumberMapper {
+
+    public static final long INVALID_KEY = -1L;
+
+    /**
+     * Returns the number as a {@code long}, or {@link #INVALID_KEY} when it is not 10 digits.
+     */
+    public static long mapToKey(String mobileNumber) {
+        if (mobileNumber == null || mobileNumber.length() != 10) {
+            return INVALID_KEY;
+        }
+        long key = 0;
+        for (int i = 0; i < 10; i++) {
+            char digit = mobileNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return INVALID_KEY;
+            }
+            key = key * 10 + (digit - '0');
+        }
+        return key;
+    }
+}
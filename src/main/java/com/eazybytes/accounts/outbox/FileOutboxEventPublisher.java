@@ -0,0 +1,47 @@
+package com.eazybytes.accounts.outbox;
+
+import com.eazybytes.accounts.config.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends relayed events as newline-delimited JSON to a local file, one line per event. Meant for
+ * tests, so it is only available with the {@code test} profile.
+ */
+@Component
+@Profile("test")
+@ConditionalOnProperty(name = "accounts.outbox.publisher", havingValue = "file")
+public class FileOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxEventPublisher(OutboxProperties outboxProperties, ObjectMapper objectMapper) {
+        this.file = Path.of(outboxProperties.getFile());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
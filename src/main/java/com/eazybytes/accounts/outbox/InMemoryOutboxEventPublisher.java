@@ -0,0 +1,34 @@
+package com.eazybytes.accounts.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps relayed events in memory for tests to inspect. Nothing drains it, so it is only available
+ * with the {@code test} profile.
+ */
+@Component
+@Profile("test")
+@ConditionalOnProperty(name = "accounts.outbox.publisher", havingValue = "memory")
+public class InMemoryOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final ConcurrentLinkedQueue<OutboxEvent> publishedEvents = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        publishedEvents.addAll(events);
+    }
+
+    public List<OutboxEvent> getPublishedEvents() {
+        return new ArrayList<>(publishedEvents);
+    }
+
+    public void clear() {
+        publishedEvents.clear();
+    }
+}
@@ -0,0 +1,17 @@
+package com.eazybytes.accounts.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+@Getter @ToString @AllArgsConstructor
+public class OutboxEvent {
+
+    private final long eventId;
+    private final String eventType;
+    private final String aggregateId;
+    private final String payload;
+    private final Instant createdAt;
+}
@@ -0,0 +1,12 @@
+package com.eazybytes.accounts.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers relayed outbox events downstream. Events of one aggregate arrive in the order they
+ * were written; delivery is at least once, so a batch that fails is offered again.
+ */
+public interface OutboxEventPublisher {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,170 @@
+package com.eazybytes.accounts.outbox;
+
+import com.eazybytes.accounts.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Drains the outbox table to the {@link OutboxEventPublisher}. Each of the {@code parallelism}
+ * workers owns a contiguous range of partitions, read through the partition index, so events of
+ * one aggregate are always relayed by the same worker in event id order. A batch is deleted in the transaction that read it,
+ * after the publisher accepted it.
+ * <p>
+ * The partitioning only coordinates the workers of one instance; running several instances
+ * against the same database would need row locking on top.
+ * <p>
+ * Without an {@link OutboxEventPublisher} bean no worker is started and events stay queued in the
+ * table until an instance with a publisher drains them.
+ */
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String SELECT_BATCH = "select event_id, event_type, aggregate_id, payload, created_at " +
+            "from outbox_event where partition_key >= ? and partition_key < ? order by event_id limit ?";
+    private static final String DELETE_EVENT = "delete from outbox_event where event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final OutboxProperties outboxProperties;
+    private final ScheduledExecutorService workers;
+    private final AtomicLongArray oldestPendingMillis;
+    private final Timer lag;
+    private final Counter publishedEvents;
+    private final Counter failedEvents;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       ObjectProvider<OutboxEventPublisher> outboxEventPublisher, OutboxProperties outboxProperties,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxEventPublisher = outboxEventPublisher.getIfAvailable();
+        this.outboxProperties = outboxProperties;
+        int parallelism = outboxProperties.getParallelism();
+        if (parallelism < 1 || parallelism > OutboxWriter.PARTITIONS) {
+            throw new IllegalStateException("accounts.outbox.parallelism must be between 1 and " + OutboxWriter.PARTITIONS);
+        }
+        this.oldestPendingMillis = new AtomicLongArray(parallelism);
+        this.lag = Timer.builder("accounts.outbox.lag")
+                .description("Time from writing an outbox event to publishing it")
+                .register(meterRegistry);
+        this.publishedEvents = eventCounter(meterRegistry, "published");
+        this.failedEvents = eventCounter(meterRegistry, "failed");
+        Gauge.builder("accounts.outbox.pending.age", this, OutboxRelay::oldestPendingAgeSeconds)
+                .description("Age of the oldest outbox event seen waiting by any relay worker")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        if (this.outboxEventPublisher == null) {
+            // relaying to nowhere would delete every lifecycle event, so they are kept for a later relay
+            logger.warn("No OutboxEventPublisher is configured, outbox events stay queued in outbox_event");
+            this.workers = null;
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("outbox-relay-");
+        threadFactory.setDaemon(true);
+        this.workers = Executors.newScheduledThreadPool(parallelism, threadFactory);
+        long pollIntervalMillis = outboxProperties.getPollInterval().toMillis();
+        for (int worker = 0; worker < parallelism; worker++) {
+            int index = worker;
+            workers.scheduleWithFixedDelay(() -> drain(index), pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.outbox.events")
+                .description("Relayed outbox events, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void drain(int worker) {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch(worker);
+            } while (relayed == outboxProperties.getBatchSize());
+        } catch (RuntimeException ex) {
+            // a failing poll must not cancel the scheduled worker; the batch is retried next poll
+            logger.warn("Outbox relay worker {} failed, retrying in {}", worker, outboxProperties.getPollInterval(), ex);
+        }
+    }
+
+    private int relayBatch(int worker) {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = jdbcTemplate.query(SELECT_BATCH, (resultSet, rowNum) -> new OutboxEvent(
+                    resultSet.getLong("event_id"),
+                    resultSet.getString("event_type"),
+                    resultSet.getString("aggregate_id"),
+                    resultSet.getString("payload"),
+                    resultSet.getTimestamp("created_at").toInstant()),
+                    firstPartition(worker), firstPartition(worker + 1), outboxProperties.getBatchSize());
+            if (batch.isEmpty()) {
+                oldestPendingMillis.set(worker, 0);
+                return 0;
+            }
+            oldestPendingMillis.set(worker, batch.get(0).getCreatedAt().toEpochMilli());
+            try {
+                outboxEventPublisher.publish(batch);
+            } catch (RuntimeException ex) {
+                failedEvents.increment(batch.size());
+                throw ex;
+            }
+            List<Object[]> eventIds = new ArrayList<>(batch.size());
+            Instant publishedAt = Instant.now();
+            for (OutboxEvent event : batch) {
+                eventIds.add(new Object[]{event.getEventId()});
+                lag.record(Duration.between(event.getCreatedAt(), publishedAt));
+            }
+            jdbcTemplate.batchUpdate(DELETE_EVENT, eventIds);
+            publishedEvents.increment(batch.size());
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private int firstPartition(int worker) {
+        return worker * OutboxWriter.PARTITIONS / outboxProperties.getParallelism();
+    }
+
+    private double oldestPendingAgeSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (int worker = 0; worker < oldestPendingMillis.length(); worker++) {
+            long millis = oldestPendingMillis.get(worker);
+            if (millis != 0 && millis < oldest) {
+                oldest = millis;
+            }
+        }
+        return oldest == Long.MAX_VALUE ? 0 : (System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
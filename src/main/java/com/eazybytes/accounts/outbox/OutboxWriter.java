@@ -0,0 +1,63 @@
+package com.eazybytes.accounts.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes outbox rows. It must join the transaction that makes the entity change, so the event is
+ * stored if and only if the change commits.
+ */
+@Component
+@AllArgsConstructor
+public class OutboxWriter {
+
+    public static final String CUSTOMER_CREATED = "CustomerCreated";
+    public static final String CUSTOMER_DELETED = "CustomerDeleted";
+    public static final int PARTITIONS = 1024;
+
+    private static final String INSERT_OUTBOX_EVENT = "insert into outbox_event (event_type, aggregate_id, " +
+            "partition_key, payload, created_at) values (?, ?, ?, ?, ?)";
+
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(String eventType, String aggregateId, Object payload) {
+        jdbcTemplate.update(INSERT_OUTBOX_EVENT, row(eventType, aggregateId, payload, Timestamp.from(Instant.now())));
+    }
+
+    /**
+     * Writes one event per entry of {@code payloadsByAggregateId} as a single JDBC batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void writeAll(String eventType, Map<String, ?> payloadsByAggregateId) {
+        if (payloadsByAggregateId.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(payloadsByAggregateId.size());
+        payloadsByAggregateId.forEach((aggregateId, payload) -> rows.add(row(eventType, aggregateId, payload, createdAt)));
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_EVENT, rows);
+    }
+
+    private Object[] row(String eventType, String aggregateId, Object payload, Timestamp createdAt) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Outbox payload cannot be serialized", ex);
+        }
+        return new Object[]{eventType, aggregateId, Math.floorMod(aggregateId.hashCode(), PARTITIONS), json, createdAt};
+    }
+}
@@ -0,0 +1,15 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.entity.Accounts;
+
+import java.util.List;
+
+public interface AccountsKeysetRepository {
+
+    /**
+     * Returns up to {@code limit} accounts ordered by account number, starting after
+     * {@code afterAccountNumber}. The seek predicate keeps deep pages as cheap as the first one,
+     * unlike an OFFSET that has to read and discard every preceding row.
+     */
+    List<Accounts> findPageAfter(String accountType, String branchAddress, Long afterAccountNumber, int limit);
+}
@@ -0,0 +1,43 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.entity.Accounts;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class AccountsKeysetRepositoryImpl implements AccountsKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Accounts> findPageAfter(String accountType, String branchAddress, Long afterAccountNumber, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Accounts> query = builder.createQuery(Accounts.class);
+        Root<Accounts> accounts = query.from(Accounts.class);
+
+        // only the filters that are set end up in the SQL, so each combination gets its own plan
+        List<Predicate> predicates = new ArrayList<>(3);
+        if (accountType != null) {
+            predicates.add(builder.equal(accounts.get("accountType"), accountType));
+        }
+        if (branchAddress != null) {
+            predicates.add(builder.equal(accounts.get("branchAddress"), branchAddress));
+        }
+        if (afterAccountNumber != null) {
+            predicates.add(builder.greaterThan(accounts.get("accountNumber"), afterAccountNumber));
+        }
+        query.select(accounts)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(accounts.get("accountNumber")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.entity.Customer;
+
+import java.util.Optional;
+
+public interface CustomerNaturalIdRepository {
+
+    /**
+     * Loads a customer through its mobile number natural id, which resolves from the second-level
+     * cache when the mapping and the entity are cached.
+     */
+    Optional<Customer> findByNaturalMobileNumber(String mobileNumber);
+}
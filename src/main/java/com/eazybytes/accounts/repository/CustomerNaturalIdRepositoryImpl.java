@@ -0,0 +1,23 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.entity.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+class CustomerNaturalIdRepositoryImpl implements CustomerNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Customer> findByNaturalMobileNumber(String mobileNumber) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Customer.class)
+                .loadOptional(mobileNumber);
+    }
+}
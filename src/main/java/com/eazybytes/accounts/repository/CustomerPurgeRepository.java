@@ -0,0 +1,17 @@
+package com.eazybytes.accounts.repository;
+
+import java.util.Collection;
+
+public interface CustomerPurgeRepository {
+
+    /**
+     * Deletes the customers and their accounts by primary key, in the caller's transaction, and
+     * evicts exactly those rows and mobile number natural ids from the second-level cache once it
+     * commits. The statements bypass Hibernate, which would otherwise invalidate the whole Customer
+     * and Accounts regions as it does for every JPQL bulk delete.
+     *
+     * @return the number of customers deleted
+     */
+    int deleteWithAccounts(Collection<Long> customerIds, Collection<Long> accountNumbers,
+                           Collection<String> mobileNumbers);
+}
@@ -0,0 +1,70 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.entity.Accounts;
+import com.eazybytes.accounts.entity.Customer;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+class CustomerPurgeRepositoryImpl implements CustomerPurgeRepository {
+
+    private static final String DELETE_ACCOUNTS = "delete from accounts where customer_id in (:customerIds)";
+    private static final String DELETE_CUSTOMERS = "delete from customer where customer_id in (:customerIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    CustomerPurgeRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int deleteWithAccounts(Collection<Long> customerIds, Collection<Long> accountNumbers,
+                                  Collection<String> mobileNumbers) {
+        if (customerIds.isEmpty()) {
+            return 0;
+        }
+        Map<String, Collection<Long>> parameters = Map.of("customerIds", customerIds);
+        jdbcTemplate.update(DELETE_ACCOUNTS, parameters);
+        int deleted = jdbcTemplate.update(DELETE_CUSTOMERS, parameters);
+        List<Long> evictedCustomerIds = List.copyOf(customerIds);
+        List<Long> evictedAccountNumbers = List.copyOf(accountNumbers);
+        List<String> evictedMobileNumbers = List.copyOf(mobileNumbers);
+        // evicting before the commit would let a concurrent load cache the rows again as they were
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Cache cache = entityManagerFactory.getCache();
+                evictedCustomerIds.forEach(customerId -> cache.evict(Customer.class, customerId));
+                evictedAccountNumbers.forEach(accountNumber -> cache.evict(Accounts.class, accountNumber));
+                evictNaturalIds(evictedMobileNumbers);
+            }
+        });
+        return deleted;
+    }
+
+    // a stale mapping would outlive the TTL: a customer registering the number again does not replace it
+    private void evictNaturalIds(List<String> mobileNumbers) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Customer.class);
+        NaturalIdDataAccess naturalIdCache = persister.getNaturalIdCacheAccessStrategy();
+        try (SessionImplementor session = sessionFactory.openTemporarySession()) {
+            mobileNumbers.forEach(mobileNumber ->
+                    naturalIdCache.evict(naturalIdCache.generateCacheKey(mobileNumber, persister, session)));
+        }
+    }
+}
@@ -1,13 +1,49 @@
 package com.eazybytes.accounts.repository;
 
+import com.eazybytes.accounts.dto.CustomerAccountsDto;
 import com.eazybytes.accounts.entity.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerNaturalIdRepository,
+        CustomerPurgeRepository {
 
-    Optional<Customer> findByMobileNumber(String mobileNumber);
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Query("select new com.eazybytes.accounts.dto.CustomerAccountsDto(c.customerId, c.name, c.email, c.mobileNumber, " +
+            "a.accountNumber, a.accountType, a.branchAddress, c.version, a.version) " +
+            "from Customer c left join Accounts a on a.customerId = c.customerId " +
+            "where c.mobileNumber = :mobileNumber")
+    Optional<CustomerAccountsDto> findCustomerAccountsByMobileNumber(@Param("mobileNumber") String mobileNumber);
+
+    @Query("select new com.eazybytes.accounts.dto.CustomerAccountsDto(c.customerId, c.name, c.email, c.mobileNumber, " +
+            "a.accountNumber, a.accountType, a.branchAddress, c.version, a.version) " +
+            "from Customer c left join Accounts a on a.customerId = c.customerId " +
+            "where c.mobileNumber in :mobileNumbers")
+    List<CustomerAccountsDto> findCustomerAccountsByMobileNumberIn(@Param("mobileNumbers") Collection<String> mobileNumbers);
+
+    @Query("select new com.eazybytes.accounts.dto.CustomerAccountsDto(c.customerId, c.name, c.email, c.mobileNumber, " +
+            "a.accountNumber, a.accountType, a.branchAddress, c.version, a.version) " +
+            "from Customer c left join Accounts a on a.customerId = c.customerId " +
+            "order by c.customerId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<CustomerAccountsDto> streamAllCustomerAccounts();
+
+    @Query("select c.mobileNumber from Customer c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<String> streamAllMobileNumbers();
+
+    @Query("select c.mobileNumber from Customer c where c.mobileNumber in :mobileNumbers")
+    List<String> findMobileNumbersIn(@Param("mobileNumbers") Collection<String> mobileNumbers);
 }
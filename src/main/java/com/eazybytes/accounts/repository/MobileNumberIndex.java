@@ -0,0 +1,324 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.dto.CustomerAccountsDto;
+import com.eazybytes.accounts.mapper.MobileNumberMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index from mobile number to customer id and account number, so that resolving the
+ * ids of a customer does not need a query. Mobile numbers are keyed as {@code long} and both ids
+ * are packed into one {@code long}, so an entry takes two array slots and no objects.
+ * <p>
+ * The index is a cache: it is built from the customer table once the application is ready, kept
+ * in step by the service after each commit, and callers verify what they load with the ids it
+ * returns. Customers whose id does not fit in {@value #CUSTOMER_ID_BITS} bits are not indexed.
+ */
+@Component
+public class MobileNumberIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MobileNumberIndex.class);
+
+    public static final long NOT_FOUND = -1L;
+
+    private static final int ACCOUNT_NUMBER_BITS = 34;
+    private static final int CUSTOMER_ID_BITS = 64 - ACCOUNT_NUMBER_BITS - 1;
+    private static final long ACCOUNT_NUMBER_MASK = (1L << ACCOUNT_NUMBER_BITS) - 1;
+    private static final long MAX_CUSTOMER_ID = (1L << CUSTOMER_ID_BITS) - 1;
+
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private volatile LongTable current;
+    private volatile LongTable rebuilding;
+
+    public MobileNumberIndex(CustomerRepository customerRepository, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("accounts.mobile.number.index.entries", this, index -> index.current == null ? 0 : index.current.size())
+                .description("Customers held in the mobile number index")
+                .register(meterRegistry);
+        Gauge.builder("accounts.mobile.number.index.size", this,
+                        index -> index.current == null ? 0 : index.current.sizeInBytes())
+                .description("Memory held by the mobile number index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        long customers = customerRepository.count();
+        LongTable table = new LongTable(customers + customers / 4);
+        rebuilding = table;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<CustomerAccountsDto> customerAccounts = customerRepository.streamAllCustomerAccounts()) {
+                    customerAccounts.forEach(customerAccountsDto -> {
+                        long key = MobileNumberMapper.mapToKey(customerAccountsDto.getMobileNumber());
+                        long entry = entry(customerAccountsDto.getCustomerId(), customerAccountsDto.getAccountNumber());
+                        if (key != MobileNumberMapper.INVALID_KEY && entry != NOT_FOUND) {
+                            table.put(key, entry);
+                        }
+                    });
+                }
+            });
+            current = table;
+        } finally {
+            rebuilding = null;
+        }
+        logger.info("Built mobile number index of {} customers ({} KiB) in {} ms", table.size(),
+                table.sizeInBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Returns the packed ids of the customer, or {@link #NOT_FOUND} when the number is not indexed.
+     */
+    public long find(String mobileNumber) {
+        LongTable table = current;
+        long key = MobileNumberMapper.mapToKey(mobileNumber);
+        if (table == null || key == MobileNumberMapper.INVALID_KEY) {
+            return NOT_FOUND;
+        }
+        return table.get(key);
+    }
+
+    public static long customerId(long entry) {
+        return entry >>> ACCOUNT_NUMBER_BITS;
+    }
+
+    /**
+     * Returns the account number of a packed entry, or {@link #NOT_FOUND} when the customer has no account.
+     */
+    public static long accountNumber(long entry) {
+        long accountNumber = entry & ACCOUNT_NUMBER_MASK;
+        return accountNumber == 0 ? NOT_FOUND : accountNumber;
+    }
+
+    /**
+     * Indexes the customer once the current transaction commits.
+     */
+    public void put(String mobileNumber, Long customerId, Long accountNumber) {
+        long key = MobileNumberMapper.mapToKey(mobileNumber);
+        long entry = entry(customerId, accountNumber);
+        if (key == MobileNumberMapper.INVALID_KEY) {
+            return;
+        }
+        // an entry that cannot be packed must still replace what the number pointed to before
+        afterCommit(() -> apply(key, entry));
+    }
+
+    /**
+     * Drops the number from the index once the current transaction commits.
+     */
+    public void remove(String mobileNumber) {
+        long key = MobileNumberMapper.mapToKey(mobileNumber);
+        if (key != MobileNumberMapper.INVALID_KEY) {
+            afterCommit(() -> apply(key, NOT_FOUND));
+        }
+    }
+
+    private void apply(long key, long entry) {
+        // the table being rebuilt is read first, so a rebuild finishing in between cannot miss the change
+        for (LongTable table : new LongTable[]{rebuilding, current}) {
+            if (table == null) {
+                continue;
+            }
+            if (entry == NOT_FOUND) {
+                table.remove(key);
+            } else {
+                table.put(key, entry);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static long entry(Long customerId, Long accountNumber) {
+        if (customerId == null || customerId < 0 || customerId > MAX_CUSTOMER_ID
+                || (accountNumber != null && (accountNumber <= 0 || accountNumber > ACCOUNT_NUMBER_MASK))) {
+            return NOT_FOUND;
+        }
+        return customerId << ACCOUNT_NUMBER_BITS | (accountNumber == null ? 0 : accountNumber);
+    }
+
+    /**
+     * Open-addressing map from non-negative {@code long} keys to non-negative {@code long} values,
+     * with linear probing and backward-shift deletion, so there are no tombstones. Keys and values
+     * are interleaved in one array so that a probe reads a single cache line. Reads are optimistic
+     * and only fall back to the read lock when they overlap a write.
+     */
+    static final class LongTable {
+
+        private static final long EMPTY = 0L;
+        private static final double MAX_LOAD_FACTOR = 0.8;
+
+        private final StampedLock lock = new StampedLock();
+        // slot i holds key + 1 at 2 * i (0 marks a free slot) and the value at 2 * i + 1
+        private long[] slots;
+        private int capacity;
+        private int size;
+
+        LongTable(long expectedSize) {
+            this.capacity = capacityFor(Math.max(16, expectedSize));
+            this.slots = new long[2 * capacity];
+        }
+
+        long get(long key) {
+            long stamp = lock.tryOptimisticRead();
+            long value = find(slots, capacity, key);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(slots, capacity, key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void put(long key, long value) {
+            long stamp = lock.writeLock();
+            try {
+                if (size + 1 > capacity * MAX_LOAD_FACTOR) {
+                    resize(capacityFor((size + 1) * 2L));
+                }
+                int slot = home(key, capacity);
+                while (slots[2 * slot] != EMPTY && slots[2 * slot] != key + 1) {
+                    slot = next(slot, capacity);
+                }
+                if (slots[2 * slot] == EMPTY) {
+                    slots[2 * slot] = key + 1;
+                    size++;
+                }
+                slots[2 * slot + 1] = value;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long key) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = home(key, capacity);
+                while (slots[2 * slot] != key + 1) {
+                    if (slots[2 * slot] == EMPTY) {
+                        return;
+                    }
+                    slot = next(slot, capacity);
+                }
+                size--;
+                // shift back later entries of the probe run so that lookups never stop at the hole
+                int hole = slot;
+                for (int candidate = next(hole, capacity); slots[2 * candidate] != EMPTY; candidate = next(candidate, capacity)) {
+                    int candidateHome = home(slots[2 * candidate] - 1, capacity);
+                    boolean movable = hole <= candidate
+                            ? candidateHome <= hole || candidateHome > candidate
+                            : candidateHome <= hole && candidateHome > candidate;
+                    if (movable) {
+                        slots[2 * hole] = slots[2 * candidate];
+                        slots[2 * hole + 1] = slots[2 * candidate + 1];
+                        hole = candidate;
+                    }
+                }
+                slots[2 * hole] = EMPTY;
+                slots[2 * hole + 1] = EMPTY;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        long sizeInBytes() {
+            return 16L * capacity;
+        }
+
+        private void resize(int newCapacity) {
+            long[] oldSlots = slots;
+            long[] newSlots = new long[2 * newCapacity];
+            for (int i = 0; i < oldSlots.length; i += 2) {
+                if (oldSlots[i] != EMPTY) {
+                    int slot = home(oldSlots[i] - 1, newCapacity);
+                    while (newSlots[2 * slot] != EMPTY) {
+                        slot = next(slot, newCapacity);
+                    }
+                    newSlots[2 * slot] = oldSlots[i];
+                    newSlots[2 * slot + 1] = oldSlots[i + 1];
+                }
+            }
+            slots = newSlots;
+            capacity = newCapacity;
+        }
+
+        // may run against a table that is being written; the probe count bounds it and validate() discards the result
+        private static long find(long[] slots, int capacity, long key) {
+            if (slots.length < 2 * capacity) {
+                return NOT_FOUND;
+            }
+            int slot = home(key, capacity);
+            for (int probes = 0; probes < capacity; probes++) {
+                long storedKey = slots[2 * slot];
+                if (storedKey == key + 1) {
+                    return slots[2 * slot + 1];
+                }
+                if (storedKey == EMPTY) {
+                    return NOT_FOUND;
+                }
+                slot = next(slot, capacity);
+            }
+            return NOT_FOUND;
+        }
+
+        private static int capacityFor(long expectedSize) {
+            long capacity = (long) Math.ceil(expectedSize / MAX_LOAD_FACTOR) + 1;
+            if (capacity > Integer.MAX_VALUE / 2) {
+                throw new IllegalStateException("Mobile number index cannot hold " + expectedSize + " entries");
+            }
+            return (int) capacity;
+        }
+
+        // maps the mixed hash onto [0, capacity) with a multiply instead of a modulo
+        static int home(long key, int capacity) {
+            long hash = key * 0x9e3779b97f4a7c15L;
+            hash ^= hash >>> 29;
+            return (int) (((hash >>> 32) * capacity) >>> 32);
+        }
+
+        private static int next(int slot, int capacity) {
+            return slot + 1 == capacity ? 0 : slot + 1;
+        }
+    }
+}
@@ -1,14 +1,49 @@
 package com.eazybytes.accounts.service;
 
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
 import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.dto.PurgeResultDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface IAccountsService {
 
     void createAccount(CustomerDto customerDto);
 
+    List<BulkCreateResultDto> createAccounts(List<CustomerDto> customerDtos);
+
     CustomerDto fetchAccount(String mobileNumber);
 
+    /**
+     * Looks up several customers with one query. Numbers without a customer are absent from the
+     * returned map, and a customer without an account is returned with a {@code null} accountsDto.
+     */
+    Map<String, CustomerDto> fetchAccounts(Collection<String> mobileNumbers);
+
+    /**
+     * Lists accounts ordered by account number, optionally filtered by type and branch address.
+     * {@code pageToken} is the nextPageToken of the previous page, or {@code null} for the first.
+     */
+    AccountsPageDto listAccounts(String accountType, String branchAddress, String pageToken, int pageSize);
+
+    /**
+     * Streams every customer with its account to {@code consumer} from a forward-only cursor. Blocks
+     * while the consumer blocks, so a slow consumer slows down the read instead of buffering rows.
+     */
+    void exportAccounts(Consumer<CustomerDto> consumer);
+
     boolean updateAccount(CustomerDto customerDto);
 
     boolean deleteAccount(String mobileNumber);
+
+    /**
+     * Deletes the customers and accounts of all given mobile numbers in one transaction, without
+     * loading them. Returns the number of distinct numbers requested and of customers deleted;
+     * unknown numbers are skipped.
+     */
+    PurgeResultDto deleteAccounts(Collection<String> mobileNumbers);
 }
@@ -1,8 +1,19 @@
 package com.eazybytes.accounts.service;
 
 import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.CustomerDetailsResultDto;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface ICustomerService {
 
     CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId);
+
+    /**
+     * Fetches the details of several customers, handing one result per requested mobile number to
+     * {@code resultConsumer} in request order. Unknown or invalid numbers are reported per number.
+     */
+    void fetchCustomerDetails(List<String> mobileNumbers, String correlationId,
+                              Consumer<CustomerDetailsResultDto> resultConsumer);
 }
@@ -0,0 +1,9 @@
+package com.eazybytes.accounts.service;
+
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveCustomerService {
+
+    Mono<CustomerDetailsDto> fetchCustomerDetails(String mobileNumber, String correlationId);
+}
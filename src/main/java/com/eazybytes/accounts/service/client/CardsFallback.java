@@ -1,15 +1,23 @@
 package com.eazybytes.accounts.service.client;
 
 import com.eazybytes.accounts.dto.CardsDto;
-import com.eazybytes.accounts.dto.LoansDto;
+import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 @Component
+@AllArgsConstructor
 public class CardsFallback implements CardsFeignClient {
 
+    private DownstreamResponseCache downstreamResponseCache;
+
     @Override
     public ResponseEntity<CardsDto> fetchCardDetails(String correlationId, String mobileNumber) {
-        return null;
+        return fetchCardDetails(correlationId, mobileNumber, DownstreamOutcome.FALLBACK);
+    }
+
+    public ResponseEntity<CardsDto> fetchCardDetails(String correlationId, String mobileNumber, DownstreamOutcome outcome) {
+        StaleWhileRevalidateCache.Entry<CardsDto> lastKnown = downstreamResponseCache.cards().get(mobileNumber);
+        return DownstreamResponseCache.toFallbackResponse(lastKnown, outcome);
     }
 }
@@ -0,0 +1,18 @@
+package com.eazybytes.accounts.service.client;
+
+import lombok.AllArgsConstructor;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class CardsFallbackFactory implements FallbackFactory<CardsFeignClient> {
+
+    private CardsFallback cardsFallback;
+
+    @Override
+    public CardsFeignClient create(Throwable cause) {
+        DownstreamOutcome outcome = DownstreamOutcome.of(cause);
+        return (correlationId, mobileNumber) -> cardsFallback.fetchCardDetails(correlationId, mobileNumber, outcome);
+    }
+}
@@ -0,0 +1,54 @@
+package com.eazybytes.accounts.service.client;
+
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.config.ReactiveClientsConfig;
+import com.eazybytes.accounts.dto.CardsDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Component
+public class CardsReactiveClient {
+
+    private final WebClient webClient;
+    private final CardsFallback cardsFallback;
+    private final DownstreamResponseCache downstreamResponseCache;
+    private final DownstreamMetrics downstreamMetrics;
+    private final CustomerDetailsProperties customerDetailsProperties;
+
+    public CardsReactiveClient(@Qualifier(ReactiveClientsConfig.LOAD_BALANCED_WEB_CLIENT) WebClient webClient, CardsFallback cardsFallback,
+                               DownstreamResponseCache downstreamResponseCache, DownstreamMetrics downstreamMetrics,
+                               CustomerDetailsProperties customerDetailsProperties) {
+        this.webClient = webClient.mutate().baseUrl("http://cards").build();
+        this.cardsFallback = cardsFallback;
+        this.downstreamResponseCache = downstreamResponseCache;
+        this.downstreamMetrics = downstreamMetrics;
+        this.customerDetailsProperties = customerDetailsProperties;
+    }
+
+    public Mono<ResponseEntity<CardsDto>> fetchCardDetails(String correlationId, String mobileNumber) {
+        StaleWhileRevalidateCache.Entry<CardsDto> cached = downstreamResponseCache.cards().get(mobileNumber);
+        if (cached != null && cached.isFresh()) {
+            return Mono.just(ResponseEntity.ok(cached.getValue()));
+        }
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/fetch").queryParam("mobileNumber", mobileNumber).build())
+                    .header("cloudbank-correlation-id", correlationId)
+                    .retrieve()
+                    .toEntity(CardsDto.class)
+                    .timeout(customerDetailsProperties.getDownstreamTimeout())
+                    .doOnNext(response -> {
+                        if (DownstreamResponseCache.isCacheable(response)) {
+                            downstreamResponseCache.cards().put(mobileNumber, response.getBody());
+                        }
+                    })
+                    .onErrorResume(throwable -> Mono.justOrEmpty(cardsFallback.fetchCardDetails(correlationId, mobileNumber,
+                            DownstreamOutcome.of(throwable))))
+                    .doOnNext(response -> downstreamMetrics.record("cards", DownstreamOutcome.of(response), startNanos));
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package com.eazybytes.accounts.service.client;
+
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Front for the loans and cards Feign clients. Responses younger than the fresh TTL are served from
+ * {@link DownstreamResponseCache}; older ones are served as stale while a single background call
+ * refreshes them. On a miss, concurrent requests for the same mobile number share one downstream
+ * call, and a coalesced caller receives the response fetched with the correlation id of the caller
+ * that made the call.
+ */
+@Component
+public class DownstreamDetailsClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(DownstreamDetailsClient.class);
+
+    private final LoansFeignClient loansFeignClient;
+    private final CardsFeignClient cardsFeignClient;
+    private final DownstreamExecutor downstreamExecutor;
+    private final DownstreamResponseCache downstreamResponseCache;
+    private final DownstreamMetrics downstreamMetrics;
+    private final SingleFlight<String, ResponseEntity<LoansDto>> loansCalls;
+    private final SingleFlight<String, ResponseEntity<CardsDto>> cardsCalls;
+    private final Set<String> loansRefreshes = ConcurrentHashMap.newKeySet();
+    private final Set<String> cardsRefreshes = ConcurrentHashMap.newKeySet();
+    private final Counter loansFresh;
+    private final Counter loansStale;
+    private final Counter cardsFresh;
+    private final Counter cardsStale;
+
+    public DownstreamDetailsClient(LoansFeignClient loansFeignClient, CardsFeignClient cardsFeignClient,
+                                   DownstreamExecutor downstreamExecutor, DownstreamResponseCache downstreamResponseCache,
+                                   DownstreamMetrics downstreamMetrics, MeterRegistry meterRegistry) {
+        this.loansFeignClient = loansFeignClient;
+        this.cardsFeignClient = cardsFeignClient;
+        this.downstreamExecutor = downstreamExecutor;
+        this.downstreamResponseCache = downstreamResponseCache;
+        this.downstreamMetrics = downstreamMetrics;
+        this.loansCalls = new SingleFlight<>("loans", meterRegistry);
+        this.cardsCalls = new SingleFlight<>("cards", meterRegistry);
+        this.loansFresh = SingleFlight.callCounter(meterRegistry, "loans", "fresh");
+        this.loansStale = SingleFlight.callCounter(meterRegistry, "loans", "stale");
+        this.cardsFresh = SingleFlight.callCounter(meterRegistry, "cards", "fresh");
+        this.cardsStale = SingleFlight.callCounter(meterRegistry, "cards", "stale");
+    }
+
+    public ResponseEntity<LoansDto> fetchLoanDetails(String correlationId, String mobileNumber) {
+        return fetch("loans", mobileNumber, downstreamResponseCache.loans(), loansCalls, loansRefreshes, loansFresh, loansStale,
+                () -> loansFeignClient.fetchLoanDetails(correlationId, mobileNumber));
+    }
+
+    public ResponseEntity<CardsDto> fetchCardDetails(String correlationId, String mobileNumber) {
+        return fetch("cards", mobileNumber, downstreamResponseCache.cards(), cardsCalls, cardsRefreshes, cardsFresh, cardsStale,
+                () -> cardsFeignClient.fetchCardDetails(correlationId, mobileNumber));
+    }
+
+    private <V> ResponseEntity<V> fetch(String service, String mobileNumber, StaleWhileRevalidateCache<V> cache,
+                                        SingleFlight<String, ResponseEntity<V>> calls, Set<String> refreshes,
+                                        Counter freshCounter, Counter staleCounter, Supplier<ResponseEntity<V>> feignCall) {
+        Supplier<ResponseEntity<V>> call = () -> timed(service, feignCall);
+        StaleWhileRevalidateCache.Entry<V> cached = cache.get(mobileNumber);
+        if (cached != null && cached.isFresh()) {
+            freshCounter.increment();
+            return ResponseEntity.ok(cached.getValue());
+        }
+        if (cached != null) {
+            staleCounter.increment();
+            refreshInBackground(mobileNumber, cache, calls, refreshes, call);
+            return DownstreamResponseCache.toResponse(cached);
+        }
+        return calls.execute(mobileNumber, () -> store(mobileNumber, cache, call.get()));
+    }
+
+    private <V> void refreshInBackground(String mobileNumber, StaleWhileRevalidateCache<V> cache,
+                                         SingleFlight<String, ResponseEntity<V>> calls, Set<String> refreshes,
+                                         Supplier<ResponseEntity<V>> call) {
+        if (!refreshes.add(mobileNumber)) {
+            return;
+        }
+        downstreamExecutor.supplyAsync(() -> calls.execute(mobileNumber, () -> store(mobileNumber, cache, call.get())))
+                .whenComplete((response, throwable) -> {
+                    refreshes.remove(mobileNumber);
+                    if (throwable != null) {
+                        logger.debug("Background refresh failed for {}", mobileNumber, throwable);
+                    }
+                });
+    }
+
+    private <V> ResponseEntity<V> timed(String service, Supplier<ResponseEntity<V>> call) {
+        long startNanos = System.nanoTime();
+        ResponseEntity<V> response = call.get();
+        downstreamMetrics.record(service, DownstreamOutcome.of(response), startNanos);
+        return response;
+    }
+
+    private static <V> ResponseEntity<V> store(String mobileNumber, StaleWhileRevalidateCache<V> cache,
+                                               ResponseEntity<V> response) {
+        if (DownstreamResponseCache.isCacheable(response)) {
+            cache.put(mobileNumber, response.getBody());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,98 @@
+package com.eazybytes.accounts.service.client;
+
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.config.VirtualThreads;
+import com.eazybytes.accounts.config.VirtualThreadsProperties;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor used to fan out calls to the loans and cards services. The MDC and the
+ * OpenTelemetry context of the submitting thread are carried over to the worker thread so that
+ * log lines and spans stay attached to the originating request.
+ * <p>
+ * In virtual-thread mode every call gets its own virtual thread, and a semaphore keeps the number
+ * of calls in flight to the same bound as the platform pool.
+ */
+@Component
+public class DownstreamExecutor implements DisposableBean {
+
+    private final ExecutorService executorService;
+    private final Semaphore inFlightCalls;
+
+    public DownstreamExecutor(CustomerDetailsProperties customerDetailsProperties,
+                              VirtualThreadsProperties virtualThreadsProperties) {
+        if (virtualThreadsProperties.isEnabled()) {
+            this.executorService = VirtualThreads.newVirtualThreadPerTaskExecutor("downstream-");
+            this.inFlightCalls = new Semaphore(customerDetailsProperties.getMaxPoolSize());
+            return;
+        }
+        this.inFlightCalls = null;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("downstream-");
+        threadFactory.setDaemon(true);
+        this.executorService = new ThreadPoolExecutor(
+                customerDetailsProperties.getCorePoolSize(),
+                customerDetailsProperties.getMaxPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(customerDetailsProperties.getQueueCapacity()),
+                threadFactory,
+                // a saturated pool degrades to running the call on the request thread
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        Supplier<T> task = inFlightCalls == null ? supplier : bounded(supplier, inFlightCalls);
+        return CompletableFuture.supplyAsync(propagateContext(task), executorService);
+    }
+
+    private static <T> Supplier<T> bounded(Supplier<T> supplier, Semaphore permits) {
+        return () -> {
+            permits.acquireUninterruptibly();
+            try {
+                return supplier.get();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private static <T> Supplier<T> propagateContext(Supplier<T> supplier) {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        Context otelContext = Context.current();
+        return () -> {
+            Map<String, String> previousMdcContext = MDC.getCopyOfContextMap();
+            setMdcContext(mdcContext);
+            try (Scope ignored = otelContext.makeCurrent()) {
+                return supplier.get();
+            } finally {
+                setMdcContext(previousMdcContext);
+            }
+        };
+    }
+
+    private static void setMdcContext(Map<String, String> mdcContext) {
+        if (mdcContext == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdcContext);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+    }
+}
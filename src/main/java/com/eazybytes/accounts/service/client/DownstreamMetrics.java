@@ -0,0 +1,32 @@
+package com.eazybytes.accounts.service.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for loans and cards calls, tagged by service and {@link DownstreamOutcome}. Histogram
+ * and SLO buckets come from the {@code management.metrics.distribution} configuration.
+ */
+@Component
+public class DownstreamMetrics {
+
+    public static final String REQUESTS_METRIC = "accounts.downstream.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public DownstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String service, DownstreamOutcome outcome, long startNanos) {
+        Timer.builder(REQUESTS_METRIC)
+                .description("Loans and cards calls, by how they were answered")
+                .tag("service", service)
+                .tag("outcome", outcome.tagValue())
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
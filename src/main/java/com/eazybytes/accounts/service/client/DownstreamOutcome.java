@@ -0,0 +1,46 @@
+package com.eazybytes.accounts.service.client;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.http.ResponseEntity;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * How a loans or cards call was answered. Fallback responses carry their outcome in the
+ * {@value #HEADER} header so it can be told apart from a real answer when the call is timed.
+ */
+public enum DownstreamOutcome {
+
+    SUCCESS,
+    FALLBACK,
+    CIRCUIT_OPEN,
+    TIMEOUT;
+
+    public static final String HEADER = "cloudbank-downstream-outcome";
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+
+    public static DownstreamOutcome of(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof CallNotPermittedException) {
+                return CIRCUIT_OPEN;
+            }
+            if (current instanceof TimeoutException || current instanceof SocketTimeoutException) {
+                return TIMEOUT;
+            }
+        }
+        return FALLBACK;
+    }
+
+    public static DownstreamOutcome of(ResponseEntity<?> response) {
+        if (response == null) {
+            return FALLBACK;
+        }
+        List<String> outcome = response.getHeaders().get(HEADER);
+        return outcome == null || outcome.isEmpty() ? SUCCESS : valueOf(outcome.get(0));
+    }
+}
@@ -0,0 +1,68 @@
+package com.eazybytes.accounts.service.client;
+
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Last good loans and cards responses, shared by {@link DownstreamDetailsClient}, the reactive
+ * clients and the Feign fallbacks. Responses served from a stale entry carry the
+ * {@value #STALE_HEADER} header so callers can flag the aggregated result.
+ */
+@Component
+public class DownstreamResponseCache {
+
+    public static final String STALE_HEADER = "cloudbank-stale";
+
+    private final StaleWhileRevalidateCache<LoansDto> loans;
+    private final StaleWhileRevalidateCache<CardsDto> cards;
+
+    public DownstreamResponseCache(CustomerDetailsProperties customerDetailsProperties) {
+        this.loans = new StaleWhileRevalidateCache<>(customerDetailsProperties.getFreshTtl(),
+                customerDetailsProperties.getStaleTtl(), customerDetailsProperties.getResponseCacheMaximumSize());
+        this.cards = new StaleWhileRevalidateCache<>(customerDetailsProperties.getFreshTtl(),
+                customerDetailsProperties.getStaleTtl(), customerDetailsProperties.getResponseCacheMaximumSize());
+    }
+
+    public StaleWhileRevalidateCache<LoansDto> loans() {
+        return loans;
+    }
+
+    public StaleWhileRevalidateCache<CardsDto> cards() {
+        return cards;
+    }
+
+    public static <V> ResponseEntity<V> toResponse(StaleWhileRevalidateCache.Entry<V> entry) {
+        if (entry.isFresh()) {
+            return ResponseEntity.ok(entry.getValue());
+        }
+        return ResponseEntity.ok().header(STALE_HEADER, "true").body(entry.getValue());
+    }
+
+    /**
+     * Response of a fallback: the last known value, if any, marked with the outcome that led to the
+     * fallback and, when it is past its fresh TTL, as stale.
+     */
+    public static <V> ResponseEntity<V> toFallbackResponse(StaleWhileRevalidateCache.Entry<V> lastKnown,
+                                                           DownstreamOutcome outcome) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(DownstreamOutcome.HEADER, outcome.name());
+        if (lastKnown == null) {
+            return response.build();
+        }
+        if (!lastKnown.isFresh()) {
+            response.header(STALE_HEADER, "true");
+        }
+        return response.body(lastKnown.getValue());
+    }
+
+    public static boolean isStale(ResponseEntity<?> response) {
+        return response != null && response.getHeaders().containsKey(STALE_HEADER);
+    }
+
+    public static boolean isCacheable(ResponseEntity<?> response) {
+        return response != null && response.getStatusCode().is2xxSuccessful() && response.getBody() != null
+                && !isStale(response) && !response.getHeaders().containsKey(DownstreamOutcome.HEADER);
+    }
+}
@@ -1,13 +1,23 @@
 package com.eazybytes.accounts.service.client;
 
 import com.eazybytes.accounts.dto.LoansDto;
+import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 @Component
+@AllArgsConstructor
 public class LoansFallback implements LoansFeignClient {
+
+    private DownstreamResponseCache downstreamResponseCache;
+
     @Override
     public ResponseEntity<LoansDto> fetchLoanDetails(String correlationId, String mobileNumber) {
-        return null;
+        return fetchLoanDetails(correlationId, mobileNumber, DownstreamOutcome.FALLBACK);
+    }
+
+    public ResponseEntity<LoansDto> fetchLoanDetails(String correlationId, String mobileNumber, DownstreamOutcome outcome) {
+        StaleWhileRevalidateCache.Entry<LoansDto> lastKnown = downstreamResponseCache.loans().get(mobileNumber);
+        return DownstreamResponseCache.toFallbackResponse(lastKnown, outcome);
     }
 }
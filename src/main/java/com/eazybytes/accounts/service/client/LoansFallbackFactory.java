@@ -0,0 +1,18 @@
+package com.eazybytes.accounts.service.client;
+
+import lombok.AllArgsConstructor;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class LoansFallbackFactory implements FallbackFactory<LoansFeignClient> {
+
+    private LoansFallback loansFallback;
+
+    @Override
+    public LoansFeignClient create(Throwable cause) {
+        DownstreamOutcome outcome = DownstreamOutcome.of(cause);
+        return (correlationId, mobileNumber) -> loansFallback.fetchLoanDetails(correlationId, mobileNumber, outcome);
+    }
+}
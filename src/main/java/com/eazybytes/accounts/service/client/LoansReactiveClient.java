@@ -0,0 +1,54 @@
+package com.eazybytes.accounts.service.client;
+
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.config.ReactiveClientsConfig;
+import com.eazybytes.accounts.dto.LoansDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Component
+public class LoansReactiveClient {
+
+    private final WebClient webClient;
+    private final LoansFallback loansFallback;
+    private final DownstreamResponseCache downstreamResponseCache;
+    private final DownstreamMetrics downstreamMetrics;
+    private final CustomerDetailsProperties customerDetailsProperties;
+
+    public LoansReactiveClient(@Qualifier(ReactiveClientsConfig.LOAD_BALANCED_WEB_CLIENT) WebClient webClient, LoansFallback loansFallback,
+                               DownstreamResponseCache downstreamResponseCache, DownstreamMetrics downstreamMetrics,
+                               CustomerDetailsProperties customerDetailsProperties) {
+        this.webClient = webClient.mutate().baseUrl("http://loans").build();
+        this.loansFallback = loansFallback;
+        this.downstreamResponseCache = downstreamResponseCache;
+        this.downstreamMetrics = downstreamMetrics;
+        this.customerDetailsProperties = customerDetailsProperties;
+    }
+
+    public Mono<ResponseEntity<LoansDto>> fetchLoanDetails(String correlationId, String mobileNumber) {
+        StaleWhileRevalidateCache.Entry<LoansDto> cached = downstreamResponseCache.loans().get(mobileNumber);
+        if (cached != null && cached.isFresh()) {
+            return Mono.just(ResponseEntity.ok(cached.getValue()));
+        }
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/fetch").queryParam("mobileNumber", mobileNumber).build())
+                    .header("cloudbank-correlation-id", correlationId)
+                    .retrieve()
+                    .toEntity(LoansDto.class)
+                    .timeout(customerDetailsProperties.getDownstreamTimeout())
+                    .doOnNext(response -> {
+                        if (DownstreamResponseCache.isCacheable(response)) {
+                            downstreamResponseCache.loans().put(mobileNumber, response.getBody());
+                        }
+                    })
+                    .onErrorResume(throwable -> Mono.justOrEmpty(loansFallback.fetchLoanDetails(correlationId, mobileNumber,
+                            DownstreamOutcome.of(throwable))))
+                    .doOnNext(response -> downstreamMetrics.record("loans", DownstreamOutcome.of(response), startNanos));
+        });
+    }
+}
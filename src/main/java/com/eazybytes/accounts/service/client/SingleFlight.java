@@ -0,0 +1,69 @@
+package com.eazybytes.accounts.service.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one: the first caller runs the call and every
+ * caller that arrives while it is in flight waits for and shares its result.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+    private final Counter executedCalls;
+    private final Counter coalescedCalls;
+
+    public SingleFlight(String service, MeterRegistry meterRegistry) {
+        this.executedCalls = callCounter(meterRegistry, service, "executed");
+        this.coalescedCalls = callCounter(meterRegistry, service, "coalesced");
+        meterRegistry.gauge("accounts.downstream.inflight", Tags.of("service", service),
+                inFlightCalls, Map::size);
+    }
+
+    static Counter callCounter(MeterRegistry meterRegistry, String service, String result) {
+        return Counter.builder("accounts.downstream.calls")
+                .description("Calls to a downstream service, by how they were served")
+                .tag("service", service)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlightCall = inFlightCalls.putIfAbsent(key, future);
+        if (inFlightCall != null) {
+            coalescedCalls.increment();
+            return join(inFlightCall);
+        }
+
+        executedCalls.increment();
+        try {
+            V result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightCalls.remove(key, future);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.eazybytes.accounts.service.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of the last good downstream response per mobile number. Entries younger than the
+ * fresh TTL are served as they are; older entries are kept until the stale TTL and are only served
+ * while a refresh runs or when the downstream service is unavailable.
+ */
+public class StaleWhileRevalidateCache<V> {
+
+    private final Cache<String, Entry<V>> entries;
+    private final long freshNanos;
+
+    public StaleWhileRevalidateCache(Duration freshTtl, Duration staleTtl, long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(staleTtl)
+                .maximumSize(maximumSize)
+                .build();
+        this.freshNanos = freshTtl.toNanos();
+    }
+
+    public Entry<V> get(String mobileNumber) {
+        return entries.getIfPresent(mobileNumber);
+    }
+
+    public void put(String mobileNumber, V value) {
+        entries.put(mobileNumber, new Entry<>(value, System.nanoTime(), freshNanos));
+    }
+
+    public static final class Entry<V> {
+        private final V value;
+        private final long storedAtNanos;
+        private final long freshNanos;
+
+        private Entry(V value, long storedAtNanos, long freshNanos) {
+            this.value = value;
+            this.storedAtNanos = storedAtNanos;
+            this.freshNanos = freshNanos;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public boolean isFresh() {
+            return System.nanoTime() - storedAtNanos < freshNanos;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.config.AccountNumberProperties;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out unique 10-digit account numbers. Each node reserves a block of numbers from the
+ * {@code account_number_block_seq} database sequence and serves it from an atomic counter, so the
+ * database is only consulted once per block and request threads never take a lock.
+ * <p>
+ * Allocated numbers start at 2000000000, above the range used by the former random generator.
+ * With check digits enabled the last digit is a Luhn check digit over the first nine.
+ * <p>
+ * Block indexes map to numbers through the block size and the check digit mode, so both are
+ * recorded in {@code account_number_allocator} on first start and a node configured differently
+ * refuses to start rather than hand out numbers that may already be in use.
+ */
+@Component
+public class AccountNumberAllocator {
+
+    private static final long FIRST_ACCOUNT_NUMBER = 2_000_000_000L;
+    private static final long LAST_ACCOUNT_NUMBER = 9_999_999_999L;
+    private static final String INSERT_SETTINGS =
+            "insert into account_number_allocator (id, block_size, check_digit) values (1, ?, ?)";
+    private static final String SELECT_SETTINGS = "select block_size, check_digit from account_number_allocator where id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private final boolean checkDigit;
+    private final AtomicReference<Block> currentBlock = new AtomicReference<>(new Block(0, 0));
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    public AccountNumberAllocator(JdbcTemplate jdbcTemplate, AccountNumberProperties accountNumberProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = accountNumberProperties.getBlockSize();
+        this.checkDigit = accountNumberProperties.isCheckDigit();
+        verifyPersistedSettings();
+    }
+
+    private void verifyPersistedSettings() {
+        try {
+            jdbcTemplate.update(INSERT_SETTINGS, blockSize, checkDigit);
+        } catch (DuplicateKeyException ex) {
+            // the settings were recorded by an earlier start or another node; they are compared below
+        }
+        Map<String, Object> persisted = jdbcTemplate.queryForMap(SELECT_SETTINGS);
+        int persistedBlockSize = ((Number) persisted.get("block_size")).intValue();
+        boolean persistedCheckDigit = (Boolean) persisted.get("check_digit");
+        if (persistedBlockSize != blockSize || persistedCheckDigit != checkDigit) {
+            throw new IllegalStateException(String.format("Account numbers were allocated with block-size=%d and " +
+                            "check-digit=%b, but this node is configured with block-size=%d and check-digit=%b",
+                    persistedBlockSize, persistedCheckDigit, blockSize, checkDigit));
+        }
+    }
+
+    public long nextAccountNumber() {
+        while (true) {
+            Block block = currentBlock.get();
+            long candidate = block.next.getAndIncrement();
+            if (candidate < block.end) {
+                return checkDigit ? candidate * 10 + luhnCheckDigit(candidate) : candidate;
+            }
+            refill(block);
+        }
+    }
+
+    // one thread reserves the next block while the others wait for it, so an exhausted block
+    // costs a single sequence call and no reserved range is thrown away
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (currentBlock.get() == exhausted) {
+                currentBlock.set(reserveBlock());
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private Block reserveBlock() {
+        Long blockIndex = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR account_number_block_seq", Long.class);
+        long first = (checkDigit ? FIRST_ACCOUNT_NUMBER / 10 : FIRST_ACCOUNT_NUMBER) + (blockIndex - 1) * blockSize;
+        long last = checkDigit ? LAST_ACCOUNT_NUMBER / 10 : LAST_ACCOUNT_NUMBER;
+        if (first + blockSize - 1 > last) {
+            throw new IllegalStateException("Account number space is exhausted");
+        }
+        return new Block(first, first + blockSize);
+    }
+
+    static int luhnCheckDigit(long body) {
+        int sum = 0;
+        boolean doubleDigit = true;
+        for (long remaining = body; remaining > 0; remaining /= 10) {
+            int digit = (int) (remaining % 10);
+            if (doubleDigit) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubleDigit = !doubleDigit;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long first, long end) {
+            this.next = new AtomicLong(first);
+            this.end = end;
+        }
+    }
+}
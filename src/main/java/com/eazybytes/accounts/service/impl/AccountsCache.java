@@ -0,0 +1,76 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.CustomerDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the customer and account details by mobile number. Every writer evicts
+ * through {@link #evictAfterCommit}, which evicts right away and again once the transaction commits.
+ * <p>
+ * A read that loaded the row before the commit could still cache it after both evictions, so
+ * evictions are also counted per stripe of keys: a read that sees the count of its stripe change
+ * while it loads drops what it cached.
+ */
+@Component
+public class AccountsCache {
+
+    private static final int STRIPES = 64;
+
+    private final Cache cache;
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+
+    public AccountsCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(AccountsConstants.ACCOUNTS_CACHE);
+    }
+
+    public CustomerDto get(String mobileNumber, Supplier<CustomerDto> loader) {
+        CustomerDto cached = cache.get(mobileNumber, CustomerDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(mobileNumber);
+        long evictionsBefore = evictions.get(stripe);
+        CustomerDto loaded = loader.get();
+        cache.put(mobileNumber, loaded);
+        // checked after the put: an eviction counted later also evicts after it, so either way the entry goes
+        if (evictions.get(stripe) != evictionsBefore) {
+            cache.evict(mobileNumber);
+        }
+        return loaded;
+    }
+
+    /**
+     * Evicts the entry now and once the current transaction commits.
+     */
+    public void evictAfterCommit(String mobileNumber) {
+        if (mobileNumber == null) {
+            return;
+        }
+        evict(mobileNumber);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(mobileNumber);
+                }
+            });
+        }
+    }
+
+    private void evict(String mobileNumber) {
+        evictions.incrementAndGet(stripe(mobileNumber));
+        cache.evict(mobileNumber);
+    }
+
+    private static int stripe(String mobileNumber) {
+        return Math.floorMod(mobileNumber.hashCode(), STRIPES);
+    }
+}
@@ -1,48 +1,217 @@
 package com.eazybytes.accounts.service.impl;
 
+import com.eazybytes.accounts.audit.AuditAction;
+import com.eazybytes.accounts.audit.AuditTrail;
+import com.eazybytes.accounts.config.AccountsBulkProperties;
 import com.eazybytes.accounts.constants.AccountsConstants;
 import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
+import com.eazybytes.accounts.dto.CustomerAccountsDto;
 import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.dto.PurgeResultDto;
 import com.eazybytes.accounts.entity.Customer;
 import com.eazybytes.accounts.entity.Accounts;
 import com.eazybytes.accounts.exception.CustomerAlreadyExistsException;
+import com.eazybytes.accounts.exception.InvalidPageTokenException;
 import com.eazybytes.accounts.exception.ResourceNotFoundException;
 import com.eazybytes.accounts.mapper.AccountsMapper;
 import com.eazybytes.accounts.mapper.CustomerMapper;
+import com.eazybytes.accounts.outbox.OutboxWriter;
 import com.eazybytes.accounts.repository.AccountsRepository;
 import com.eazybytes.accounts.repository.CustomerRepository;
+import com.eazybytes.accounts.repository.MobileNumberIndex;
 import com.eazybytes.accounts.service.IAccountsService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
-import java.util.Random;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
+@Timed(AccountsConstants.SERVICE_METRIC)
 public class AccountsServiceImpl implements IAccountsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AccountsServiceImpl.class);
+    private static final String PAGE_TOKEN_PREFIX = "a:";
+    private static final String AUDITED_ENTITY = "Customer";
+
     private AccountsRepository accountsRepository;
     private CustomerRepository customerRepository;
+    private AccountsCache accountsCache;
+    private Validator validator;
+    private TransactionTemplate transactionTemplate;
+    private AccountsBulkProperties accountsBulkProperties;
+    private AccountNumberAllocator accountNumberAllocator;
+    private AuditTrail auditTrail;
+    private OutboxWriter outboxWriter;
+    private MobileNumberFilter mobileNumberFilter;
+    private MobileNumberIndex mobileNumberIndex;
+    private EntityManagerFactory entityManagerFactory;
 
     @Override
+    @Transactional
     public void createAccount(CustomerDto customerDto) {
         Customer customer = CustomerMapper.mapToCustomer(customerDto, new Customer());
-        Optional<Customer> optionalCustomer = customerRepository.findByMobileNumber(customerDto.getMobileNumber());
-        if (optionalCustomer.isPresent()) {
-            throw new CustomerAlreadyExistsException("Customer is already registered with the given mobile number "
-                    + customerDto.getMobileNumber());
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException ex) {
+            if (isMobileNumberConflict(ex)) {
+                throw new CustomerAlreadyExistsException("Customer is already registered with the given mobile number "
+                        + customerDto.getMobileNumber());
+            }
+            throw ex;
+        }
+        mobileNumberFilter.add(savedCustomer.getMobileNumber());
+        Accounts savedAccount = accountsRepository.save(createNewAccount(savedCustomer));
+        mobileNumberIndex.put(savedCustomer.getMobileNumber(), savedCustomer.getCustomerId(), savedAccount.getAccountNumber());
+        CustomerDto created = snapshot(savedCustomer, savedAccount);
+        outboxWriter.write(OutboxWriter.CUSTOMER_CREATED, savedCustomer.getMobileNumber(), created);
+        auditTrail.record(AuditAction.CREATE, AUDITED_ENTITY, savedCustomer.getCustomerId().toString(), null, created);
+        accountsCache.evictAfterCommit(savedCustomer.getMobileNumber());
+    }
+
+    @Override
+    public List<BulkCreateResultDto> createAccounts(List<CustomerDto> customerDtos) {
+        long startNanos = System.nanoTime();
+        int chunkSize = accountsBulkProperties.getChunkSize();
+        List<BulkCreateResultDto> results = new ArrayList<>(customerDtos.size());
+        for (int from = 0; from < customerDtos.size(); from += chunkSize) {
+            List<CustomerDto> chunk = customerDtos.subList(from, Math.min(from + chunkSize, customerDtos.size()));
+            List<BulkCreateResultDto> chunkResults;
+            try {
+                chunkResults = transactionTemplate.execute(status -> createAccountsChunk(chunk));
+            } catch (DataIntegrityViolationException ex) {
+                // a concurrent writer registered one of the numbers after the duplicate check
+                chunkResults = createAccountsOneByOne(chunk);
+            }
+            results.addAll(chunkResults);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        logger.info("Bulk create processed {} records in {} ms ({} records/s)",
+                customerDtos.size(), elapsedMillis, customerDtos.size() * 1000L / elapsedMillis);
+        return results;
+    }
+
+    private List<BulkCreateResultDto> createAccountsChunk(List<CustomerDto> chunk) {
+        BulkCreateResultDto[] results = new BulkCreateResultDto[chunk.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CustomerDto customerDto = chunk.get(i);
+            String violations = validate(customerDto);
+            if (violations != null) {
+                results[i] = new BulkCreateResultDto(customerDto.getMobileNumber(), AccountsConstants.STATUS_400, violations);
+            } else if (candidates.putIfAbsent(customerDto.getMobileNumber(), i) != null) {
+                results[i] = duplicateResult(customerDto.getMobileNumber());
+            }
+        }
+        if (!candidates.isEmpty()) {
+            for (String registeredMobileNumber : customerRepository.findMobileNumbersIn(candidates.keySet())) {
+                Integer index = candidates.remove(registeredMobileNumber);
+                if (index != null) {
+                    results[index] = duplicateResult(registeredMobileNumber);
+                }
+            }
+        }
+
+        List<Customer> customers = new ArrayList<>(candidates.size());
+        for (int index : candidates.values()) {
+            customers.add(CustomerMapper.mapToCustomer(chunk.get(index), new Customer()));
+        }
+        List<Customer> savedCustomers = customerRepository.saveAll(customers);
+        List<Accounts> accounts = new ArrayList<>(savedCustomers.size());
+        for (Customer savedCustomer : savedCustomers) {
+            accounts.add(createNewAccount(savedCustomer));
+        }
+        accountsRepository.saveAll(accounts);
+        Map<String, CustomerDto> created = new LinkedHashMap<>();
+        for (int i = 0; i < savedCustomers.size(); i++) {
+            Customer savedCustomer = savedCustomers.get(i);
+            CustomerDto customerDto = snapshot(savedCustomer, accounts.get(i));
+            created.put(savedCustomer.getMobileNumber(), customerDto);
+            mobileNumberFilter.add(savedCustomer.getMobileNumber());
+            mobileNumberIndex.put(savedCustomer.getMobileNumber(), savedCustomer.getCustomerId(), accounts.get(i).getAccountNumber());
+            auditTrail.record(AuditAction.CREATE, AUDITED_ENTITY, savedCustomer.getCustomerId().toString(), null, customerDto);
+        }
+        outboxWriter.writeAll(OutboxWriter.CUSTOMER_CREATED, created);
+
+        for (int index : candidates.values()) {
+            results[index] = new BulkCreateResultDto(chunk.get(index).getMobileNumber(),
+                    AccountsConstants.STATUS_201, AccountsConstants.MESSAGE_201);
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<BulkCreateResultDto> createAccountsOneByOne(List<CustomerDto> chunk) {
+        List<BulkCreateResultDto> results = new ArrayList<>(chunk.size());
+        for (CustomerDto customerDto : chunk) {
+            String violations = validate(customerDto);
+            if (violations != null) {
+                results.add(new BulkCreateResultDto(customerDto.getMobileNumber(), AccountsConstants.STATUS_400, violations));
+                continue;
+            }
+            try {
+                // createAccount is called on this instance, so the transaction is opened explicitly
+                transactionTemplate.executeWithoutResult(status -> createAccount(customerDto));
+                results.add(new BulkCreateResultDto(customerDto.getMobileNumber(),
+                        AccountsConstants.STATUS_201, AccountsConstants.MESSAGE_201));
+            } catch (CustomerAlreadyExistsException ex) {
+                results.add(duplicateResult(customerDto.getMobileNumber()));
+            }
+        }
+        return results;
+    }
+
+    private String validate(CustomerDto customerDto) {
+        Set<ConstraintViolation<CustomerDto>> violations = validator.validate(customerDto);
+        if (violations.isEmpty()) {
+            return null;
         }
-        Customer savedCustomer = customerRepository.save(customer);
-        accountsRepository.save(createNewAccount(savedCustomer));
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private static BulkCreateResultDto duplicateResult(String mobileNumber) {
+        return new BulkCreateResultDto(mobileNumber, AccountsConstants.STATUS_400, AccountsConstants.MESSAGE_400_DUPLICATE);
+    }
+
+    private static boolean isMobileNumberConflict(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Customer.MOBILE_NUMBER_INDEX);
     }
 
     private Accounts createNewAccount(Customer customer) {
         Accounts newAccount = new Accounts();
         newAccount.setCustomerId(customer.getCustomerId());
-        long randomAccNumber = 1000000000L + new Random().nextInt(900000000);
-
-        newAccount.setAccountNumber(randomAccNumber);
+        newAccount.setAccountNumber(accountNumberAllocator.nextAccountNumber());
         newAccount.setAccountType(AccountsConstants.SAVINGS);
         newAccount.setBranchAddress(AccountsConstants.ADDRESS);
         return newAccount;
@@ -50,18 +219,156 @@ public class AccountsServiceImpl implements IAccountsService {
 
     @Override
     public CustomerDto fetchAccount(String mobileNumber) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                ()->new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
-        );
-        Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow(
-                ()->new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString())
-        );
-        CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
-        customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        return accountsCache.get(mobileNumber, () -> loadAccount(mobileNumber));
+    }
+
+    private CustomerDto loadAccount(String mobileNumber) {
+        if (!mobileNumberFilter.mightContain(mobileNumber)) {
+            throw new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber);
+        }
+        CustomerAccountsDto customerAccountsDto = findCachedCustomerAccounts(mobileNumber);
+        if (customerAccountsDto == null) {
+            customerAccountsDto = customerRepository.findCustomerAccountsByMobileNumber(mobileNumber).orElseThrow(
+                    ()-> {
+                        mobileNumberFilter.recordFalsePositive();
+                        return new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber);
+                    }
+            );
+        }
+        if (customerAccountsDto.getAccountNumber() == null) {
+            throw new ResourceNotFoundException("Account", "customerId", customerAccountsDto.getCustomerId().toString());
+        }
+        CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customerAccountsDto, new CustomerDto());
+        customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(customerAccountsDto, new AccountsDto()));
         return customerDto;
     }
 
+    /**
+     * Loads the customer through its mobile number natural id and the account through the number the
+     * in-memory index holds, when both rows are in the second-level cache, so no statement runs.
+     * Returns {@code null} when the index has no usable entry, is stale, or either row is not
+     * cached, and the caller queries by mobile number.
+     */
+    private CustomerAccountsDto findCachedCustomerAccounts(String mobileNumber) {
+        long entry = mobileNumberIndex.find(mobileNumber);
+        if (entry == MobileNumberIndex.NOT_FOUND || MobileNumberIndex.accountNumber(entry) == MobileNumberIndex.NOT_FOUND) {
+            return null;
+        }
+        long customerId = MobileNumberIndex.customerId(entry);
+        long accountNumber = MobileNumberIndex.accountNumber(entry);
+        Cache entityCache = entityManagerFactory.getCache();
+        if (!entityCache.contains(Customer.class, customerId) || !entityCache.contains(Accounts.class, accountNumber)) {
+            return null;
+        }
+        Customer customer = customerRepository.findByNaturalMobileNumber(mobileNumber).orElse(null);
+        Accounts accounts = accountsRepository.findById(accountNumber).orElse(null);
+        if (customer == null || accounts == null || !customer.getCustomerId().equals(accounts.getCustomerId())) {
+            return null;
+        }
+        return new CustomerAccountsDto(customer.getCustomerId(), customer.getName(), customer.getEmail(),
+                customer.getMobileNumber(), accounts.getAccountNumber(), accounts.getAccountType(),
+                accounts.getBranchAddress(), customer.getVersion(), accounts.getVersion());
+    }
+
+    /**
+     * Serves what the index and the second-level cache hold and reads the rest with one query.
+     */
+    private List<CustomerAccountsDto> findCustomerAccounts(Collection<String> mobileNumbers) {
+        List<CustomerAccountsDto> customerAccountsDtos = new ArrayList<>(mobileNumbers.size());
+        List<String> uncachedMobileNumbers = new ArrayList<>();
+        for (String mobileNumber : mobileNumbers) {
+            CustomerAccountsDto customerAccountsDto = findCachedCustomerAccounts(mobileNumber);
+            if (customerAccountsDto != null) {
+                customerAccountsDtos.add(customerAccountsDto);
+            } else {
+                uncachedMobileNumbers.add(mobileNumber);
+            }
+        }
+        if (!uncachedMobileNumbers.isEmpty()) {
+            customerAccountsDtos.addAll(customerRepository.findCustomerAccountsByMobileNumberIn(uncachedMobileNumbers));
+        }
+        return customerAccountsDtos;
+    }
+
+    @Override
+    public Map<String, CustomerDto> fetchAccounts(Collection<String> mobileNumbers) {
+        List<String> candidates = new ArrayList<>(mobileNumbers.size());
+        for (String mobileNumber : mobileNumbers) {
+            if (mobileNumberFilter.mightContain(mobileNumber)) {
+                candidates.add(mobileNumber);
+            }
+        }
+        Map<String, CustomerDto> customerDtos = new HashMap<>(candidates.size() * 2);
+        if (candidates.isEmpty()) {
+            return customerDtos;
+        }
+        for (CustomerAccountsDto customerAccountsDto : findCustomerAccounts(candidates)) {
+            CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customerAccountsDto, new CustomerDto());
+            if (customerAccountsDto.getAccountNumber() != null) {
+                customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(customerAccountsDto, new AccountsDto()));
+            }
+            customerDtos.put(customerDto.getMobileNumber(), customerDto);
+        }
+        for (int i = customerDtos.size(); i < candidates.size(); i++) {
+            mobileNumberFilter.recordFalsePositive();
+        }
+        return customerDtos;
+    }
+
+    @Override
+    public AccountsPageDto listAccounts(String accountType, String branchAddress, String pageToken, int pageSize) {
+        Long afterAccountNumber = pageToken == null ? null : decodePageToken(pageToken);
+        // one extra row tells whether there is a next page without a count query
+        List<Accounts> accounts = accountsRepository.findPageAfter(accountType, branchAddress, afterAccountNumber, pageSize + 1);
+        boolean hasNextPage = accounts.size() > pageSize;
+        List<AccountsDto> accountsDtos = new ArrayList<>(Math.min(accounts.size(), pageSize));
+        for (int i = 0; i < accounts.size() && i < pageSize; i++) {
+            accountsDtos.add(AccountsMapper.mapToAccountsDto(accounts.get(i), new AccountsDto()));
+        }
+        String nextPageToken = hasNextPage
+                ? encodePageToken(accountsDtos.get(accountsDtos.size() - 1).getAccountNumber()) : null;
+        return new AccountsPageDto(accountsDtos, nextPageToken);
+    }
+
+    private static String encodePageToken(long lastAccountNumber) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PAGE_TOKEN_PREFIX + lastAccountNumber).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodePageToken(String pageToken) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.US_ASCII);
+            if (!decoded.startsWith(PAGE_TOKEN_PREFIX)) {
+                throw new InvalidPageTokenException(pageToken);
+            }
+            return Long.parseLong(decoded.substring(PAGE_TOKEN_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageTokenException(pageToken);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAccounts(Consumer<CustomerDto> consumer) {
+        try (Stream<CustomerAccountsDto> customerAccountsDtos = customerRepository.streamAllCustomerAccounts()) {
+            customerAccountsDtos.forEach(customerAccountsDto -> {
+                CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customerAccountsDto, new CustomerDto());
+                if (customerAccountsDto.getAccountNumber() != null) {
+                    customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(customerAccountsDto, new AccountsDto()));
+                }
+                consumer.accept(customerDto);
+            });
+        }
+    }
+
+    /**
+     * Both entities are modified in one transaction and flushed together at commit. The versions
+     * sent by the client must match the loaded rows, so an update based on a stale read fails with
+     * an OptimisticLockingFailureException; the version columns catch a concurrent update that
+     * commits between the load and the flush.
+     */
     @Override
+    @Transactional
     public boolean updateAccount(CustomerDto customerDto) {
         boolean isUpdated = false;
         AccountsDto accountsDto = customerDto.getAccountsDto();
@@ -69,28 +376,98 @@ public class AccountsServiceImpl implements IAccountsService {
             Accounts accounts = accountsRepository.findById(accountsDto.getAccountNumber()).orElseThrow(
                     () -> new ResourceNotFoundException("Account", "AccountNumber", accountsDto.getAccountNumber().toString())
             );
-            AccountsMapper.mapToAccounts(accountsDto, accounts);
-            accounts = accountsRepository.save(accounts);
-
             Long customerId = accounts.getCustomerId();
             Customer customer = customerRepository.findById(customerId).orElseThrow(
                     () -> new ResourceNotFoundException("Customer", "CustomerID", customerId.toString())
             );
+            if (!Objects.equals(accountsDto.getVersion(), accounts.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Accounts.class, accounts.getAccountNumber());
+            }
+            if (!Objects.equals(customerDto.getVersion(), customer.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Customer.class, customerId);
+            }
+            CustomerDto before = snapshot(customer, accounts);
+            String previousMobileNumber = customer.getMobileNumber();
+            AccountsMapper.mapToAccounts(accountsDto, accounts);
             CustomerMapper.mapToCustomer(customerDto, customer);
-            customerRepository.save(customer);
+            auditTrail.record(AuditAction.UPDATE, AUDITED_ENTITY, customerId.toString(), before, snapshot(customer, accounts));
+            mobileNumberFilter.add(customer.getMobileNumber());
+            if (previousMobileNumber != null && !previousMobileNumber.equals(customer.getMobileNumber())) {
+                mobileNumberIndex.remove(previousMobileNumber);
+            }
+            mobileNumberIndex.put(customer.getMobileNumber(), customerId, accounts.getAccountNumber());
+            accountsCache.evictAfterCommit(previousMobileNumber);
+            accountsCache.evictAfterCommit(customerDto.getMobileNumber());
             isUpdated = true;
         }
         return isUpdated;
     }
 
     @Override
+    @Transactional
     public boolean deleteAccount(String mobileNumber) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                () -> new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
-        );
-        accountsRepository.deleteByCustomerId(customer.getCustomerId());
-        customerRepository.deleteById(customer.getCustomerId());
+        List<String> mobileNumbers = List.of(mobileNumber);
+        if (!mobileNumberFilter.mightContain(mobileNumber) || deleteChunk(mobileNumbers) == 0) {
+            throw new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber);
+        }
+        accountsCache.evictAfterCommit(mobileNumber);
         return true;
     }
 
+    @Override
+    @Transactional
+    public PurgeResultDto deleteAccounts(Collection<String> mobileNumbers) {
+        List<String> distinctMobileNumbers = new ArrayList<>(new LinkedHashSet<>(mobileNumbers));
+        int requested = distinctMobileNumbers.size();
+        // numbers the filter rules out are neither deleted nor cached, so they need no statement or eviction
+        distinctMobileNumbers.removeIf(mobileNumber -> !mobileNumberFilter.mightContain(mobileNumber));
+        int chunkSize = accountsBulkProperties.getChunkSize();
+        int deleted = 0;
+        for (int from = 0; from < distinctMobileNumbers.size(); from += chunkSize) {
+            List<String> chunk = distinctMobileNumbers.subList(from, Math.min(from + chunkSize, distinctMobileNumbers.size()));
+            deleted += deleteChunk(chunk);
+        }
+        distinctMobileNumbers.forEach(accountsCache::evictAfterCommit);
+        logger.info("Purged {} of {} requested customers", deleted, requested);
+        return new PurgeResultDto(requested, deleted);
+    }
+
+    /**
+     * The rows are snapshotted for the audit trail and the outbox, from the index and the
+     * second-level cache where possible and otherwise with one projection query, then deleted by
+     * primary key with one accounts and one customer statement.
+     */
+    private int deleteChunk(List<String> mobileNumbers) {
+        List<CustomerAccountsDto> deletedCustomers = findCustomerAccounts(mobileNumbers);
+        Set<Long> customerIds = new LinkedHashSet<>();
+        List<Long> accountNumbers = new ArrayList<>(deletedCustomers.size());
+        Set<String> deletedMobileNumbers = new LinkedHashSet<>();
+        for (CustomerAccountsDto customerAccountsDto : deletedCustomers) {
+            customerIds.add(customerAccountsDto.getCustomerId());
+            deletedMobileNumbers.add(customerAccountsDto.getMobileNumber());
+            if (customerAccountsDto.getAccountNumber() != null) {
+                accountNumbers.add(customerAccountsDto.getAccountNumber());
+            }
+        }
+        int deleted = customerRepository.deleteWithAccounts(customerIds, accountNumbers, deletedMobileNumbers);
+        Map<String, CustomerDto> deletedByMobileNumber = new LinkedHashMap<>();
+        for (CustomerAccountsDto customerAccountsDto : deletedCustomers) {
+            CustomerDto before = CustomerMapper.mapToCustomerDto(customerAccountsDto, new CustomerDto());
+            if (customerAccountsDto.getAccountNumber() != null) {
+                before.setAccountsDto(AccountsMapper.mapToAccountsDto(customerAccountsDto, new AccountsDto()));
+            }
+            deletedByMobileNumber.put(before.getMobileNumber(), before);
+            mobileNumberIndex.remove(before.getMobileNumber());
+            auditTrail.record(AuditAction.DELETE, AUDITED_ENTITY, customerAccountsDto.getCustomerId().toString(), before, null);
+        }
+        outboxWriter.writeAll(OutboxWriter.CUSTOMER_DELETED, deletedByMobileNumber);
+        return deleted;
+    }
+
+    private static CustomerDto snapshot(Customer customer, Accounts accounts) {
+        CustomerDto customerDto = CustomerMapper.mapToCustomerDto(customer, new CustomerDto());
+        customerDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+        return customerDto;
+    }
+
 }
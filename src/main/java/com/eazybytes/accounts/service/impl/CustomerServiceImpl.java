@@ -1,53 +1,151 @@
 package com.eazybytes.accounts.service.impl;
 
-import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.constants.AccountsConstants;
 import com.eazybytes.accounts.dto.CardsDto;
 import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.CustomerDetailsResultDto;
+import com.eazybytes.accounts.dto.CustomerDto;
 import com.eazybytes.accounts.dto.LoansDto;
-import com.eazybytes.accounts.entity.Accounts;
-import com.eazybytes.accounts.entity.Customer;
 import com.eazybytes.accounts.exception.ResourceNotFoundException;
-import com.eazybytes.accounts.mapper.AccountsMapper;
 import com.eazybytes.accounts.mapper.CustomerMapper;
-import com.eazybytes.accounts.repository.AccountsRepository;
-import com.eazybytes.accounts.repository.CustomerRepository;
+import com.eazybytes.accounts.service.IAccountsService;
 import com.eazybytes.accounts.service.ICustomerService;
-import com.eazybytes.accounts.service.client.CardsFeignClient;
-import com.eazybytes.accounts.service.client.LoansFeignClient;
+import com.eazybytes.accounts.service.client.CardsFallback;
+import com.eazybytes.accounts.service.client.DownstreamDetailsClient;
+import com.eazybytes.accounts.service.client.DownstreamExecutor;
+import com.eazybytes.accounts.service.client.DownstreamOutcome;
+import com.eazybytes.accounts.service.client.DownstreamResponseCache;
+import com.eazybytes.accounts.service.client.LoansFallback;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
 @Service
 @AllArgsConstructor
+@Timed(AccountsConstants.SERVICE_METRIC)
 public class CustomerServiceImpl implements ICustomerService {
 
-    private AccountsRepository accountsRepository;
-    private CustomerRepository customerRepository;
-    private CardsFeignClient cardsFeignClient;
-    private LoansFeignClient loansFeignClient;
+    private static final Pattern MOBILE_NUMBER = Pattern.compile("[0-9]{10}");
+
+    private IAccountsService iAccountsService;
+    private DownstreamDetailsClient downstreamDetailsClient;
+    private CardsFallback cardsFallback;
+    private LoansFallback loansFallback;
+    private DownstreamExecutor downstreamExecutor;
+    private CustomerDetailsProperties customerDetailsProperties;
+    private MobileNumberFilter mobileNumberFilter;
 
     @Override
     public CustomerDetailsDto fetchCustomerDetails(String mobileNumber, String correlationId) {
-        Customer customer = customerRepository.findByMobileNumber(mobileNumber).orElseThrow(
-                ()->new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber)
-        );
-        Accounts accounts = accountsRepository.findByCustomerId(customer.getCustomerId()).orElseThrow(
-                ()->new ResourceNotFoundException("Account", "customerId", customer.getCustomerId().toString())
-        );
+        // unknown numbers are rejected before any loans or cards call is started
+        if (!mobileNumberFilter.mightContain(mobileNumber)) {
+            throw new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber);
+        }
+        // the fan-out starts only once the customer is known, as a started call cannot be taken back
+        CustomerDto customerDto = iAccountsService.fetchAccount(mobileNumber);
+        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customerDto, new CustomerDetailsDto());
+        CompletableFuture<ResponseEntity<LoansDto>> loansFuture = fetchLoanDetails(correlationId, mobileNumber);
+        CompletableFuture<ResponseEntity<CardsDto>> cardsFuture = fetchCardDetails(correlationId, mobileNumber);
+
+        return withDownstreamDetails(customerDetailsDto, loansFuture, cardsFuture);
+    }
+
+    @Override
+    public void fetchCustomerDetails(List<String> mobileNumbers, String correlationId,
+                                     Consumer<CustomerDetailsResultDto> resultConsumer) {
+        int chunkSize = customerDetailsProperties.getBatchChunkSize();
+        for (int from = 0; from < mobileNumbers.size(); from += chunkSize) {
+            List<String> chunk = mobileNumbers.subList(from, Math.min(from + chunkSize, mobileNumbers.size()));
+            fetchChunk(chunk, correlationId).forEach(resultConsumer);
+        }
+    }
 
-        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
-        customerDetailsDto.setAccountsDto(AccountsMapper.mapToAccountsDto(accounts, new AccountsDto()));
+    private List<CustomerDetailsResultDto> fetchChunk(List<String> mobileNumbers, String correlationId) {
+        Set<String> validMobileNumbers = new LinkedHashSet<>();
+        for (String mobileNumber : mobileNumbers) {
+            if (mobileNumber != null && MOBILE_NUMBER.matcher(mobileNumber).matches()) {
+                validMobileNumbers.add(mobileNumber);
+            }
+        }
+        Map<String, CustomerDto> customerDtos = validMobileNumbers.isEmpty()
+                ? Map.of() : iAccountsService.fetchAccounts(validMobileNumbers);
+
+        List<CompletableFuture<CustomerDetailsResultDto>> results = new ArrayList<>(mobileNumbers.size());
+        for (String mobileNumber : mobileNumbers) {
+            results.add(fetchResult(mobileNumber, validMobileNumbers.contains(mobileNumber),
+                    customerDtos.get(mobileNumber), correlationId));
+        }
+        List<CustomerDetailsResultDto> customerDetailsResultDtos = new ArrayList<>(results.size());
+        for (CompletableFuture<CustomerDetailsResultDto> result : results) {
+            customerDetailsResultDtos.add(result.join());
+        }
+        return customerDetailsResultDtos;
+    }
+
+    private CompletableFuture<CustomerDetailsResultDto> fetchResult(String mobileNumber, boolean valid,
+                                                                     CustomerDto customerDto, String correlationId) {
+        if (!valid) {
+            return CompletableFuture.completedFuture(new CustomerDetailsResultDto(mobileNumber,
+                    AccountsConstants.STATUS_400, "Mobile number must be 10 digits.", null));
+        }
+        if (customerDto == null) {
+            return CompletableFuture.completedFuture(new CustomerDetailsResultDto(mobileNumber, AccountsConstants.STATUS_404,
+                    new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber).getMessage(), null));
+        }
+        if (customerDto.getAccountsDto() == null) {
+            return CompletableFuture.completedFuture(new CustomerDetailsResultDto(mobileNumber, AccountsConstants.STATUS_404,
+                    new ResourceNotFoundException("Account", "mobileNumber", mobileNumber).getMessage(), null));
+        }
+        CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customerDto, new CustomerDetailsDto());
+        CompletableFuture<ResponseEntity<LoansDto>> loansFuture = fetchLoanDetails(correlationId, mobileNumber);
+        CompletableFuture<ResponseEntity<CardsDto>> cardsFuture = fetchCardDetails(correlationId, mobileNumber);
+        return CompletableFuture.allOf(loansFuture, cardsFuture).thenApply(ignored -> new CustomerDetailsResultDto(mobileNumber,
+                AccountsConstants.STATUS_200, AccountsConstants.MESSAGE_200,
+                withDownstreamDetails(customerDetailsDto, loansFuture, cardsFuture)));
+    }
+
+    private CompletableFuture<ResponseEntity<LoansDto>> fetchLoanDetails(String correlationId, String mobileNumber) {
+        return downstreamExecutor
+                .supplyAsync(() -> downstreamDetailsClient.fetchLoanDetails(correlationId, mobileNumber))
+                .orTimeout(customerDetailsProperties.getDownstreamTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> loansFallback.fetchLoanDetails(correlationId, mobileNumber,
+                        DownstreamOutcome.of(throwable)));
+    }
+
+    private CompletableFuture<ResponseEntity<CardsDto>> fetchCardDetails(String correlationId, String mobileNumber) {
+        return downstreamExecutor
+                .supplyAsync(() -> downstreamDetailsClient.fetchCardDetails(correlationId, mobileNumber))
+                .orTimeout(customerDetailsProperties.getDownstreamTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(throwable -> cardsFallback.fetchCardDetails(correlationId, mobileNumber,
+                        DownstreamOutcome.of(throwable)));
+    }
 
-        ResponseEntity<LoansDto> loansDtoResponseEntity = loansFeignClient.fetchLoanDetails(correlationId, mobileNumber);
+    private static CustomerDetailsDto withDownstreamDetails(CustomerDetailsDto customerDetailsDto,
+                                                            CompletableFuture<ResponseEntity<LoansDto>> loansFuture,
+                                                            CompletableFuture<ResponseEntity<CardsDto>> cardsFuture) {
+        ResponseEntity<LoansDto> loansDtoResponseEntity = loansFuture.join();
         if (null != loansDtoResponseEntity) {
             customerDetailsDto.setLoansDto(loansDtoResponseEntity.getBody());
         }
 
-        ResponseEntity<CardsDto> cardsDtoResponseEntity = cardsFeignClient.fetchCardDetails(correlationId, mobileNumber);
+        ResponseEntity<CardsDto> cardsDtoResponseEntity = cardsFuture.join();
         if (null != cardsDtoResponseEntity) {
             customerDetailsDto.setCardsDto(cardsDtoResponseEntity.getBody());
         }
+        customerDetailsDto.setStale(DownstreamResponseCache.isStale(loansDtoResponseEntity)
+                || DownstreamResponseCache.isStale(cardsDtoResponseEntity));
 
         return customerDetailsDto;
     }
@@ -0,0 +1,276 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.config.MobileNumberFilterProperties;
+import com.eazybytes.accounts.mapper.MobileNumberMapper;
+import com.eazybytes.accounts.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over the registered mobile numbers, so that lookups of numbers that were never
+ * registered are answered without a query. A negative answer is definite; a positive answer still
+ * goes to the database.
+ * <p>
+ * Only this instance's writes reach the filter, so a number registered by another instance, or
+ * inserted outside the service, would be rejected until the next rebuild. The filter is therefore
+ * off by default and must only be enabled where this instance is the single writer of the
+ * customer table.
+ * <p>
+ * The filter is built from the customer table once the application is ready and answers "maybe"
+ * for everything until then. Numbers are added as they are written. Deleted numbers cannot be
+ * removed from a Bloom filter, so the filter is rebuilt, sized for the current table, on a fixed
+ * interval.
+ */
+@Component
+public class MobileNumberFilter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MobileNumberFilter.class);
+
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MobileNumberFilterProperties mobileNumberFilterProperties;
+    private final Counter rejectedLookups;
+    private final Counter falsePositiveLookups;
+    private final ScheduledExecutorService rebuildScheduler;
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    public MobileNumberFilter(CustomerRepository customerRepository, PlatformTransactionManager transactionManager,
+                              MobileNumberFilterProperties mobileNumberFilterProperties, MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.mobileNumberFilterProperties = mobileNumberFilterProperties;
+        this.rejectedLookups = lookupCounter(meterRegistry, "rejected");
+        this.falsePositiveLookups = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("accounts.mobile.number.filter.size", this, MobileNumberFilter::sizeInBytes)
+                .description("Memory held by the mobile number Bloom filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("accounts.mobile.number.filter.false.positive.rate", this, MobileNumberFilter::estimatedFalsePositiveRate)
+                .description("False-positive rate estimated from the share of bits set in the mobile number filter")
+                .register(meterRegistry);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mobile-number-filter-");
+        threadFactory.setDaemon(true);
+        this.rebuildScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.mobile.number.filter.lookups")
+                .description("Lookups answered by the mobile number filter, by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!mobileNumberFilterProperties.isEnabled()) {
+            return;
+        }
+        rebuild();
+        long rebuildIntervalMillis = mobileNumberFilterProperties.getRebuildInterval().toMillis();
+        rebuildScheduler.scheduleWithFixedDelay(this::scheduledRebuild,
+                rebuildIntervalMillis, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns {@code false} only when the number is certainly not registered. Rejections are counted.
+     */
+    public boolean mightContain(String mobileNumber) {
+        BloomFilter filter = current;
+        long key = MobileNumberMapper.mapToKey(mobileNumber);
+        if (filter == null || key == MobileNumberMapper.INVALID_KEY || filter.mightContain(key)) {
+            return true;
+        }
+        rejectedLookups.increment();
+        return false;
+    }
+
+    /**
+     * Records that a number let through by the filter was not found in the database.
+     */
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositiveLookups.increment();
+        }
+    }
+
+    /**
+     * Adds a number that is being registered. The number is added right away, so it is never
+     * rejected once its transaction commits, and again after the commit, in case a rebuild started
+     * in between and its scan did not see the uncommitted row.
+     */
+    public void add(String mobileNumber) {
+        long key = MobileNumberMapper.mapToKey(mobileNumber);
+        if (key == MobileNumberMapper.INVALID_KEY) {
+            return;
+        }
+        put(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(key);
+                }
+            });
+        }
+    }
+
+    // the filter being rebuilt is read first: read the other way round, a rebuild finishing in
+    // between would swap in a filter that missed the key
+    private void put(long key) {
+        BloomFilter filter = rebuilding;
+        if (filter != null) {
+            filter.put(key);
+        }
+        filter = current;
+        if (filter != null) {
+            filter.put(key);
+        }
+    }
+
+    private void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            // a failing rebuild must not cancel the scheduled check; the current filter stays in use
+            logger.warn("Rebuilding the mobile number filter failed", ex);
+        }
+    }
+
+    private synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        long customers = customerRepository.count();
+        // headroom so that the filter does not saturate before the next rebuild
+        long capacity = Math.max(mobileNumberFilterProperties.getExpectedInsertions(), customers + customers / 2);
+        BloomFilter filter = new BloomFilter(capacity, mobileNumberFilterProperties.getFalsePositiveProbability());
+        rebuilding = filter;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> mobileNumbers = customerRepository.streamAllMobileNumbers()) {
+                    mobileNumbers.forEach(mobileNumber -> {
+                        long key = MobileNumberMapper.mapToKey(mobileNumber);
+                        if (key != MobileNumberMapper.INVALID_KEY) {
+                            filter.put(key);
+                        }
+                    });
+                }
+            });
+            current = filter;
+        } finally {
+            rebuilding = null;
+        }
+        logger.info("Built mobile number filter for {} customers ({} KiB, {} hash functions) in {} ms",
+                customers, filter.sizeInBytes() / 1024, filter.numHashFunctions,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private double sizeInBytes() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.sizeInBytes();
+    }
+
+    private double estimatedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.estimatedFalsePositiveRate();
+    }
+
+    @Override
+    public void destroy() {
+        rebuildScheduler.shutdownNow();
+    }
+
+    /**
+     * Lock-free Bloom filter over {@code long} keys. Bit positions come from two halves of a
+     * mixed 64-bit hash combined as {@code h1 + i * h2}.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray words;
+        private final long numBits;
+        private final int numHashFunctions;
+        private final AtomicLong setBits = new AtomicLong();
+
+        BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+            long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability)
+                    / (Math.log(2) * Math.log(2)));
+            int numWords = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+            this.words = new AtomicLongArray(numWords);
+            this.numBits = numWords * 64L;
+            this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        }
+
+        boolean mightContain(long key) {
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashFunctions; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, numBits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(long key) {
+            long hash = mix(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashFunctions; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, numBits);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | mask));
+                if ((word & mask) == 0) {
+                    setBits.incrementAndGet();
+                }
+            }
+        }
+
+        long sizeInBytes() {
+            return numBits / 8;
+        }
+
+        double estimatedFalsePositiveRate() {
+            return Math.pow((double) setBits.get() / numBits, numHashFunctions);
+        }
+
+        // finalizer of MurmurHash3, spreads sequential mobile numbers over the whole bit array
+        private static long mix(long key) {
+            long hash = key;
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
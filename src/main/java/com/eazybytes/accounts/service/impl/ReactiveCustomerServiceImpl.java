@@ -0,0 +1,58 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.mapper.CustomerMapper;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.eazybytes.accounts.service.IReactiveCustomerService;
+import com.eazybytes.accounts.service.client.CardsReactiveClient;
+import com.eazybytes.accounts.service.client.DownstreamResponseCache;
+import com.eazybytes.accounts.service.client.LoansReactiveClient;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Optional;
+
+@Service
+@AllArgsConstructor
+public class ReactiveCustomerServiceImpl implements IReactiveCustomerService {
+
+    private IAccountsService iAccountsService;
+    private LoansReactiveClient loansReactiveClient;
+    private CardsReactiveClient cardsReactiveClient;
+    private Scheduler accountsLookupScheduler;
+    private MobileNumberFilter mobileNumberFilter;
+
+    @Override
+    public Mono<CustomerDetailsDto> fetchCustomerDetails(String mobileNumber, String correlationId) {
+        if (!mobileNumberFilter.mightContain(mobileNumber)) {
+            return Mono.error(new ResourceNotFoundException("Customer", "mobileNumber", mobileNumber));
+        }
+        Mono<CustomerDto> customerDto = Mono.fromCallable(() -> iAccountsService.fetchAccount(mobileNumber))
+                .subscribeOn(accountsLookupScheduler);
+
+        // as in CustomerServiceImpl, loans and cards are only called for a customer that exists
+        return customerDto.flatMap(customer -> {
+            Mono<Optional<ResponseEntity<LoansDto>>> loansDto = loansReactiveClient.fetchLoanDetails(correlationId, mobileNumber)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+            Mono<Optional<ResponseEntity<CardsDto>>> cardsDto = cardsReactiveClient.fetchCardDetails(correlationId, mobileNumber)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+            return Mono.zip(loansDto, cardsDto).map(results -> {
+                CustomerDetailsDto customerDetailsDto = CustomerMapper.mapToCustomerDetailsDto(customer, new CustomerDetailsDto());
+                results.getT1().ifPresent(response -> customerDetailsDto.setLoansDto(response.getBody()));
+                results.getT2().ifPresent(response -> customerDetailsDto.setCardsDto(response.getBody()));
+                customerDetailsDto.setStale(DownstreamResponseCache.isStale(results.getT1().orElse(null))
+                        || DownstreamResponseCache.isStale(results.getT2().orElse(null)));
+                return customerDetailsDto;
+            });
+        });
+    }
+}
@@ -1,3 +1,13 @@
+CREATE SEQUENCE IF NOT EXISTS `customer_seq` START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS `account_number_block_seq` START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS `account_number_allocator` (
+  `id` int PRIMARY KEY,
+  `block_size` int NOT NULL,
+  `check_digit` boolean NOT NULL
+);
+
 CREATE TABLE IF NOT EXISTS `customer` (
   `customer_id` int AUTO_INCREMENT PRIMARY KEY,
   `name` varchar(100) NOT NULL,
@@ -6,16 +16,51 @@ CREATE TABLE IF NOT EXISTS `customer` (
   `created_at` date NOT NULL,
   `created_by` varchar(20) NOT NULL,
   `updated_at` date DEFAULT NULL,
-  `updated_by` varchar(20) DEFAULT NULL
+  `updated_by` varchar(20) DEFAULT NULL,
+  `version` bigint DEFAULT 0 NOT NULL
 );
 
 CREATE TABLE IF NOT EXISTS `accounts` (
   `customer_id` int NOT NULL,
-  `account_number` int AUTO_INCREMENT PRIMARY KEY,
+  `account_number` bigint PRIMARY KEY,
   `account_type` varchar(100) NOT NULL,
   `branch_address` varchar(200) NOT NULL,
   `created_at` date NOT NULL,
   `created_by` varchar(20) NOT NULL,
   `updated_at` date DEFAULT NULL,
-  `updated_by` varchar(20) DEFAULT NULL
-);
\ No newline at end of file
+  `updated_by` varchar(20) DEFAULT NULL,
+  `version` bigint DEFAULT 0 NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS `audit_trail` (
+  `audit_id` bigint AUTO_INCREMENT PRIMARY KEY,
+  `occurred_at` timestamp NOT NULL,
+  `action` varchar(10) NOT NULL,
+  `entity_type` varchar(50) NOT NULL,
+  `entity_id` varchar(50) NOT NULL,
+  `correlation_id` varchar(100) DEFAULT NULL,
+  `actor` varchar(20) DEFAULT NULL,
+  `before_state` varchar(4000) DEFAULT NULL,
+  `after_state` varchar(4000) DEFAULT NULL
+);
+
+CREATE TABLE IF NOT EXISTS `outbox_event` (
+  `event_id` bigint AUTO_INCREMENT PRIMARY KEY,
+  `event_type` varchar(50) NOT NULL,
+  `aggregate_id` varchar(50) NOT NULL,
+  `partition_key` int NOT NULL,
+  `payload` varchar(4000) NOT NULL,
+  `created_at` timestamp NOT NULL
+);
+
+ALTER TABLE `customer` ADD COLUMN IF NOT EXISTS `version` bigint DEFAULT 0 NOT NULL;
+
+ALTER TABLE `accounts` ADD COLUMN IF NOT EXISTS `version` bigint DEFAULT 0 NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS `ux_customer_mobile_number` ON `customer` (`mobile_number`);
+
+CREATE INDEX IF NOT EXISTS `ix_accounts_customer_id` ON `accounts` (`customer_id`);
+
+CREATE INDEX IF NOT EXISTS `ix_accounts_type_branch_number` ON `accounts` (`account_type`, `branch_address`, `account_number`);
+
+CREATE INDEX IF NOT EXISTS `ix_outbox_event_partition` ON `outbox_event` (`partition_key`, `event_id`);
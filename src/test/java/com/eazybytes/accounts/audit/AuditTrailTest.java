@@ -0,0 +1,96 @@
+package com.eazybytes.accounts.audit;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuditTrailTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesCreateAndUpdateWithOnlyTheChangedFields() throws InterruptedException {
+        iAccountsService.createAccount(customer("4200000001", "Audit Before"));
+        String customerId = customerId("4200000001");
+        CustomerDto update = read("4200000001");
+        update.setName("Audit After");
+        iAccountsService.updateAccount(update);
+
+        List<Map<String, Object>> rows = awaitRows(customerId, 2);
+
+        assertThat(rows).extracting(row -> row.get("ACTION")).containsExactly("CREATE", "UPDATE");
+        assertThat(rows.get(0).get("BEFORE_STATE")).isNull();
+        assertThat((String) rows.get(0).get("AFTER_STATE")).contains("4200000001");
+        assertThat((String) rows.get(1).get("BEFORE_STATE")).contains("Audit Before").doesNotContain("4200000001");
+        assertThat((String) rows.get(1).get("AFTER_STATE")).contains("Audit After").doesNotContain("4200000001");
+    }
+
+    @Test
+    void rejectedUpdateIsNotAudited() throws InterruptedException {
+        iAccountsService.createAccount(customer("4200000002", "Audit Before"));
+        String customerId = customerId("4200000002");
+        CustomerDto staleUpdate = read("4200000002");
+        staleUpdate.setVersion(staleUpdate.getVersion() - 1);
+        staleUpdate.setName("Audit After");
+        assertThatThrownBy(() -> iAccountsService.updateAccount(staleUpdate))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        iAccountsService.deleteAccount("4200000002");
+
+        // events are queued in commit order, so an UPDATE would be written no later than the DELETE
+        List<Map<String, Object>> rows = awaitRows(customerId, 2);
+
+        assertThat(rows).extracting(row -> row.get("ACTION")).containsExactly("CREATE", "DELETE");
+    }
+
+    private List<Map<String, Object>> awaitRows(String customerId, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        List<Map<String, Object>> rows;
+        while ((rows = rows(customerId)).size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> rows(String customerId) {
+        return jdbcTemplate.queryForList("select action, before_state, after_state from audit_trail " +
+                "where entity_type = 'Customer' and entity_id = ? order by audit_id", customerId);
+    }
+
+    private String customerId(String mobileNumber) {
+        return jdbcTemplate.queryForObject("select customer_id from customer where mobile_number = ?", String.class,
+                mobileNumber);
+    }
+
+    private CustomerDto read(String mobileNumber) {
+        return objectMapper.convertValue(iAccountsService.fetchAccount(mobileNumber), CustomerDto.class);
+    }
+
+    private static CustomerDto customer(String mobileNumber, String name) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName(name);
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
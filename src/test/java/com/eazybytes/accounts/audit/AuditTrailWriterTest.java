@@ -0,0 +1,69 @@
+package com.eazybytes.accounts.audit;
+
+import com.eazybytes.accounts.config.AuditProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuditTrailWriterTest {
+
+    @Test
+    void dropsEventsOnceTheQueueIsFullAndWritesTheRestOnShutdown() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditProperties auditProperties = new AuditProperties();
+        auditProperties.setQueueCapacity(2);
+        auditProperties.setFlushInterval(Duration.ofHours(1));
+        AuditTrailWriter auditTrailWriter = new AuditTrailWriter(jdbcTemplate, new ObjectMapper(), auditProperties,
+                meterRegistry);
+
+        assertThat(auditTrailWriter.offer(event("1"))).isTrue();
+        assertThat(auditTrailWriter.offer(event("2"))).isTrue();
+        assertThat(auditTrailWriter.offer(event("3"))).isFalse();
+        auditTrailWriter.destroy();
+
+        ArgumentCaptor<List<Object[]>> rows = rowsCaptor();
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[3]).containsExactly("1", "2");
+        assertThat(meterRegistry.get("accounts.audit.events").tag("result", "dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("accounts.audit.events").tag("result", "written").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsOnlyTheChangedFieldsOfAnUpdate() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AuditTrailWriter auditTrailWriter = new AuditTrailWriter(jdbcTemplate, new ObjectMapper(), new AuditProperties(),
+                new SimpleMeterRegistry());
+
+        auditTrailWriter.offer(new AuditEvent(Instant.now(), AuditAction.UPDATE, "Customer", "1", null, null,
+                Map.of("name", "Before", "email", "same@fakemail.com", "accounts", Map.of("branchAddress", "Same")),
+                Map.of("name", "After", "email", "same@fakemail.com", "accounts", Map.of("branchAddress", "Same"))));
+        auditTrailWriter.destroy();
+
+        ArgumentCaptor<List<Object[]>> rows = rowsCaptor();
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue().get(0)[6]).isEqualTo("{\"name\":\"Before\"}");
+        assertThat(rows.getValue().get(0)[7]).isEqualTo("{\"name\":\"After\"}");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Object[]>> rowsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static AuditEvent event(String entityId) {
+        return new AuditEvent(Instant.now(), AuditAction.CREATE, "Customer", entityId, null, null, null, Map.of("id", entityId));
+    }
+}
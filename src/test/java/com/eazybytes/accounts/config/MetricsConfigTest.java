@@ -0,0 +1,72 @@
+package com.eazybytes.accounts.config;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.eazybytes.accounts.service.client.DownstreamMetrics;
+import com.eazybytes.accounts.service.client.DownstreamOutcome;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private DownstreamMetrics downstreamMetrics;
+
+    @Test
+    void serviceMethodsArePublishedWithTheirSloBuckets() throws Exception {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Metered Customer");
+        customerDto.setEmail("customer4220000001@fakemail.com");
+        customerDto.setMobileNumber("4220000001");
+        iAccountsService.createAccount(customerDto);
+        iAccountsService.fetchAccount("4220000001");
+
+        List<String> scrape = scrape();
+
+        assertThat(scrape).anySatisfy(line -> assertThat(line)
+                .startsWith("accounts_service_seconds_bucket{")
+                .contains("method=\"fetchAccount\"", "class=\"com.eazybytes.accounts.service.impl.AccountsServiceImpl\"",
+                        "le=\"0.005\""));
+        assertThat(scrape).anySatisfy(line -> assertThat(line)
+                .startsWith("accounts_service_seconds_count{")
+                .contains("method=\"createAccount\""));
+    }
+
+    @Test
+    void downstreamCallsArePublishedByServiceAndOutcome() throws Exception {
+        downstreamMetrics.record("loans", DownstreamOutcome.TIMEOUT, System.nanoTime());
+
+        assertThat(scrape()).anySatisfy(line -> assertThat(line)
+                .startsWith("accounts_downstream_requests_seconds_bucket{")
+                .contains("service=\"loans\"", "outcome=\"timeout\"", "le=\"0.025\""));
+    }
+
+    private List<String> scrape() throws Exception {
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return Arrays.asList(body.split("\n"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.eazybytes.accounts.controller;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// a database of its own, so the export only holds the customers created here
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export-accounts")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ExportAccountsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Test
+    @Order(1)
+    void emptyExportHasAnEmptyBody() throws Exception {
+        assertThat(export(null).getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    void exportsOneLinePerCustomerWithoutATrailingSeparator() throws Exception {
+        iAccountsService.createAccount(customer("4140000001"));
+        iAccountsService.createAccount(customer("4140000002"));
+
+        String body = export(null).getResponse().getContentAsString();
+
+        assertThat(body).doesNotEndWith("\n");
+        assertThat(parse(body)).extracting(CustomerDto::getMobileNumber).containsExactlyInAnyOrder("4140000001", "4140000002");
+        assertThat(parse(body)).allSatisfy(customerDto -> assertThat(customerDto.getAccountsDto().getAccountNumber()).isNotNull());
+    }
+
+    @Test
+    @Order(3)
+    void gzipExportHoldsTheSameLines() throws Exception {
+        String plain = export(null).getResponse().getContentAsString();
+
+        MvcResult gzipped = export("gzip, deflate");
+
+        assertThat(gzipped.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(gzipped.getResponse().getContentAsByteArray())).isEqualTo(plain);
+    }
+
+    private MvcResult export(String acceptEncoding) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(acceptEncoding == null ? get("/api/export")
+                        : get("/api/export").header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+        return mvcResult;
+    }
+
+    private List<CustomerDto> parse(String body) throws IOException {
+        List<CustomerDto> customerDtos = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            customerDtos.add(objectMapper.readValue(line, CustomerDto.class));
+        }
+        return customerDtos;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Exported Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,91 @@
+package com.eazybytes.accounts.controller;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PurgeAccountsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purgesKnownNumbersAndCountsDistinctRequestedOnes() throws Exception {
+        iAccountsService.createAccount(customer("4190000001"));
+        iAccountsService.createAccount(customer("4190000002"));
+        iAccountsService.createAccount(customer("4190000003"));
+        // cached before the purge, so a stale cache entry would still answer the fetch below
+        iAccountsService.fetchAccount("4190000001");
+
+        mockMvc.perform(post("/api/purge").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(List.of("4190000001", "4190000002", "4190000001", "4190000099"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        assertThatThrownBy(() -> iAccountsService.fetchAccount("4190000001")).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> iAccountsService.fetchAccount("4190000002")).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(iAccountsService.fetchAccount("4190000003").getMobileNumber()).isEqualTo("4190000003");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from accounts a join customer c on c.customer_id = a.customer_id " +
+                "where c.mobile_number in ('4190000001', '4190000002')", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from customer where mobile_number in ('4190000001', '4190000002')",
+                Integer.class)).isZero();
+    }
+
+    @Test
+    void purgingAgainDeletesNothing() {
+        iAccountsService.createAccount(customer("4190000101"));
+
+        assertThat(iAccountsService.deleteAccounts(List.of("4190000101")).getDeleted()).isEqualTo(1);
+        assertThat(iAccountsService.deleteAccounts(List.of("4190000101")).getDeleted()).isZero();
+    }
+
+    @Test
+    void purgedNumberCanBeRegisteredAgain() {
+        iAccountsService.createAccount(customer("4190000201"));
+        Long purgedAccountNumber = iAccountsService.fetchAccount("4190000201").getAccountsDto().getAccountNumber();
+        iAccountsService.deleteAccounts(List.of("4190000201"));
+
+        iAccountsService.createAccount(customer("4190000201"));
+
+        assertThat(iAccountsService.fetchAccount("4190000201").getAccountsDto().getAccountNumber())
+                .isNotEqualTo(purgedAccountNumber);
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Purged Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,114 @@
+package com.eazybytes.accounts.controller;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.exception.CustomerAlreadyExistsException;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UniqueMobileNumberTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void secondRegistrationOfANumberIsRejectedWithBadRequest() throws Exception {
+        mockMvc.perform(post("/api/create").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(customer("4040000001"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/create").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(customer("4040000001"))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(customers("4040000001")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRegistrationsOfANumberLeaveExactlyOneCustomer() throws Exception {
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(writers);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    try {
+                        iAccountsService.createAccount(customer("4040000002"));
+                        return true;
+                    } catch (CustomerAlreadyExistsException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    created++;
+                }
+            }
+
+            // the unique index decides, with no check-then-insert window
+            assertThat(created).isEqualTo(1);
+            assertThat(customers("4040000002")).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void duplicateIsRejectedWithoutAnOrphanAccount() {
+        iAccountsService.createAccount(customer("4040000003"));
+        Integer accountsBefore = jdbcTemplate.queryForObject("select count(*) from accounts", Integer.class);
+
+        assertThatThrownBy(() -> iAccountsService.createAccount(customer("4040000003")))
+                .isInstanceOf(CustomerAlreadyExistsException.class);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from accounts", Integer.class)).isEqualTo(accountsBefore);
+    }
+
+    private int customers(String mobileNumber) {
+        return jdbcTemplate.queryForObject("select count(*) from customer where mobile_number = ?", Integer.class, mobileNumber);
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Unique Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
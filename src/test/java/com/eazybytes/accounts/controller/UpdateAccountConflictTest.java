@@ -0,0 +1,79 @@
+package com.eazybytes.accounts.controller;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UpdateAccountConflictTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Test
+    void updateBasedOnAStaleReadIsRejectedWithConflict() throws Exception {
+        iAccountsService.createAccount(customer("4180000001", "Original Name"));
+        CustomerDto firstRead = read("4180000001");
+        CustomerDto secondRead = read("4180000001");
+
+        firstRead.setName("First Writer");
+        mockMvc.perform(put("/api/update").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(firstRead)))
+                .andExpect(status().isOk());
+        secondRead.setName("Second Writer");
+        mockMvc.perform(put("/api/update").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(secondRead)))
+                .andExpect(status().isConflict());
+
+        CustomerDto stored = iAccountsService.fetchAccount("4180000001");
+        assertThat(stored.getName()).isEqualTo("First Writer");
+        assertThat(stored.getVersion()).isEqualTo(firstRead.getVersion() + 1);
+    }
+
+    @Test
+    void updateWithoutVersionsIsRejectedWithConflict() throws Exception {
+        iAccountsService.createAccount(customer("4180000002", "Original Name"));
+        CustomerDto read = read("4180000002");
+        read.setVersion(null);
+        read.getAccountsDto().setVersion(null);
+        read.setName("Blind Writer");
+
+        mockMvc.perform(put("/api/update").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(read)))
+                .andExpect(status().isConflict());
+
+        assertThat(iAccountsService.fetchAccount("4180000002").getName()).isEqualTo("Original Name");
+    }
+
+    // the cached instance is shared, so each client works on its own copy
+    private CustomerDto read(String mobileNumber) {
+        return objectMapper.convertValue(iAccountsService.fetchAccount(mobileNumber), CustomerDto.class);
+    }
+
+    private static CustomerDto customer(String mobileNumber, String name) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName(name);
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,84 @@
+package com.eazybytes.accounts.outbox;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// a database of its own, so the relays of other cached test contexts cannot drain these events
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox-relay")
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private InMemoryOutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void relaysTheEventsOfACustomerInOrderAndDeletesThemFromTheTable() throws InterruptedException {
+        iAccountsService.createAccount(customer("4210000001"));
+        iAccountsService.deleteAccount("4210000001");
+
+        awaitUntil(() -> eventsOf("4210000001").size() == 2);
+
+        assertThat(eventsOf("4210000001")).extracting(OutboxEvent::getEventType)
+                .containsExactly(OutboxWriter.CUSTOMER_CREATED, OutboxWriter.CUSTOMER_DELETED);
+        assertThat(eventsOf("4210000001").get(0).getPayload()).contains("4210000001");
+        assertThat(queuedEvents("4210000001")).isZero();
+    }
+
+    @Test
+    void relaysEveryEventOfABulkPurge() throws InterruptedException {
+        List<String> mobileNumbers = List.of("4210000002", "4210000003", "4210000004");
+        mobileNumbers.forEach(mobileNumber -> iAccountsService.createAccount(customer(mobileNumber)));
+        iAccountsService.deleteAccounts(mobileNumbers);
+
+        awaitUntil(() -> mobileNumbers.stream().allMatch(mobileNumber -> eventsOf(mobileNumber).size() == 2));
+
+        for (String mobileNumber : mobileNumbers) {
+            assertThat(eventsOf(mobileNumber)).extracting(OutboxEvent::getEventType)
+                    .containsExactly(OutboxWriter.CUSTOMER_CREATED, OutboxWriter.CUSTOMER_DELETED);
+            assertThat(queuedEvents(mobileNumber)).isZero();
+        }
+    }
+
+    private List<OutboxEvent> eventsOf(String mobileNumber) {
+        return outboxEventPublisher.getPublishedEvents().stream()
+                .filter(event -> event.getAggregateId().equals(mobileNumber))
+                .toList();
+    }
+
+    private int queuedEvents(String mobileNumber) {
+        return jdbcTemplate.queryForObject("select count(*) from outbox_event where aggregate_id = ?", Integer.class,
+                mobileNumber);
+    }
+
+    static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10 seconds").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Outbox Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
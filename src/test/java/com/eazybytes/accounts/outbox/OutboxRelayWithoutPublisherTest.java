@@ -0,0 +1,41 @@
+package com.eazybytes.accounts.outbox;
+
+import com.eazybytes.accounts.service.IAccountsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-without-publisher",
+        "accounts.outbox.publisher=none",
+        "accounts.outbox.poll-interval=20ms"
+})
+@ActiveProfiles("test")
+class OutboxRelayWithoutPublisherTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private ObjectProvider<OutboxEventPublisher> outboxEventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void contextStartsAndEventsStayQueued() throws InterruptedException {
+        iAccountsService.createAccount(OutboxRelayTest.customer("4210000101"));
+
+        // many poll intervals, in which a running relay would have drained the event
+        Thread.sleep(500);
+
+        assertThat(outboxEventPublisher.getIfAvailable()).isNull();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_event where aggregate_id = ?",
+                Integer.class, "4210000101")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,138 @@
+package com.eazybytes.accounts.repository;
+
+import com.eazybytes.accounts.repository.MobileNumberIndex.LongTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MobileNumberIndexTest {
+
+    @Test
+    void putOverwritesAndRemoveDropsEntries() {
+        LongTable table = new LongTable(16);
+        table.put(9_175_552_620L, 1);
+        table.put(9_175_552_620L, 2);
+        table.put(9_175_552_621L, 3);
+
+        assertThat(table.get(9_175_552_620L)).isEqualTo(2);
+        assertThat(table.size()).isEqualTo(2);
+
+        table.remove(9_175_552_620L);
+        table.remove(1_234_567_890L);
+
+        assertThat(table.get(9_175_552_620L)).isEqualTo(MobileNumberIndex.NOT_FOUND);
+        assertThat(table.get(9_175_552_621L)).isEqualTo(3);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removeShiftsBackProbeRunsThatWrapAroundTheEnd() {
+        LongTable table = new LongTable(16);
+        int lastSlot = table.capacity() - 1;
+        List<Long> homedAtLastSlot = new ArrayList<>();
+        long homedAtFirstSlot = -1;
+        for (long key = 0; homedAtLastSlot.size() < 3 || homedAtFirstSlot < 0; key++) {
+            int home = LongTable.home(key, table.capacity());
+            if (home == lastSlot && homedAtLastSlot.size() < 3) {
+                homedAtLastSlot.add(key);
+            } else if (home == 0 && homedAtFirstSlot < 0) {
+                homedAtFirstSlot = key;
+            }
+        }
+        // the run starts in the last slot and continues at 0, 1 and 2
+        homedAtLastSlot.forEach(key -> table.put(key, key));
+        table.put(homedAtFirstSlot, homedAtFirstSlot);
+
+        table.remove(homedAtLastSlot.get(0));
+
+        assertThat(table.get(homedAtLastSlot.get(0))).isEqualTo(MobileNumberIndex.NOT_FOUND);
+        assertThat(table.get(homedAtLastSlot.get(1))).isEqualTo(homedAtLastSlot.get(1));
+        assertThat(table.get(homedAtLastSlot.get(2))).isEqualTo(homedAtLastSlot.get(2));
+        assertThat(table.get(homedAtFirstSlot)).isEqualTo(homedAtFirstSlot);
+
+        table.remove(homedAtLastSlot.get(2));
+        table.remove(homedAtLastSlot.get(1));
+
+        assertThat(table.get(homedAtFirstSlot)).isEqualTo(homedAtFirstSlot);
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resizeKeepsEveryEntry() {
+        LongTable table = new LongTable(16);
+        int initialCapacity = table.capacity();
+        for (long key = 0; key < 100_000; key++) {
+            table.put(5_000_000_000L + key, key);
+        }
+
+        assertThat(table.capacity()).isGreaterThan(initialCapacity);
+        assertThat(table.size()).isEqualTo(100_000);
+        for (long key = 0; key < 100_000; key++) {
+            assertThat(table.get(5_000_000_000L + key)).isEqualTo(key);
+        }
+    }
+
+    @Test
+    void matchesAHashMapUnderRandomPutsAndRemoves() {
+        Random random = new Random(42);
+        LongTable table = new LongTable(16);
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            // a small key space keeps probe runs long and removals frequent
+            long key = random.nextInt(5_000) * 7_919L;
+            if (random.nextInt(3) == 0) {
+                table.remove(key);
+                expected.remove(key);
+            } else {
+                long value = random.nextInt(Integer.MAX_VALUE);
+                table.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (long i = 0; i < 5_000; i++) {
+            long key = i * 7_919L;
+            assertThat(table.get(key)).isEqualTo(expected.getOrDefault(key, MobileNumberIndex.NOT_FOUND));
+        }
+    }
+
+    @Test
+    void readersSeeEveryPublishedEntryWhileTheTableGrows() throws Exception {
+        LongTable table = new LongTable(16);
+        AtomicLong published = new AtomicLong(-1);
+        Thread writer = new Thread(() -> {
+            for (long key = 0; key < 200_000; key++) {
+                table.put(key, key * 2);
+                published.set(key);
+            }
+        });
+        writer.start();
+        Random random = new Random(7);
+        while (writer.isAlive()) {
+            long upTo = published.get();
+            if (upTo >= 0) {
+                long key = (long) (random.nextDouble() * (upTo + 1));
+                assertThat(table.get(key)).isEqualTo(key * 2);
+            }
+        }
+        writer.join();
+    }
+
+    @Test
+    void packsCustomerIdAndAccountNumber() {
+        long entry = MobileNumberIndex.entry(123_456_789L, 9_999_999_999L);
+
+        assertThat(MobileNumberIndex.customerId(entry)).isEqualTo(123_456_789L);
+        assertThat(MobileNumberIndex.accountNumber(entry)).isEqualTo(9_999_999_999L);
+        assertThat(MobileNumberIndex.accountNumber(MobileNumberIndex.entry(1L, null))).isEqualTo(MobileNumberIndex.NOT_FOUND);
+        assertThat(MobileNumberIndex.entry(1L << 40, 1L)).isEqualTo(MobileNumberIndex.NOT_FOUND);
+    }
+}
@@ -0,0 +1,72 @@
+package com.eazybytes.accounts.service.client;
+
+import com.eazybytes.accounts.config.CustomerDetailsProperties;
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DownstreamFallbackTest {
+
+    @Test
+    void classifiesTheCauseOfAFallback() {
+        CallNotPermittedException circuitOpen = CallNotPermittedException
+                .createCallNotPermittedException(CircuitBreaker.ofDefaults("loans"));
+
+        assertThat(DownstreamOutcome.of(new CompletionException(circuitOpen))).isEqualTo(DownstreamOutcome.CIRCUIT_OPEN);
+        assertThat(DownstreamOutcome.of(new CompletionException(new TimeoutException()))).isEqualTo(DownstreamOutcome.TIMEOUT);
+        assertThat(DownstreamOutcome.of(new IllegalStateException("503"))).isEqualTo(DownstreamOutcome.FALLBACK);
+    }
+
+    @Test
+    void fallbackWithoutALastKnownValueHasNoBodyAndCarriesItsOutcome() {
+        LoansFallback loansFallback = new LoansFallback(downstreamResponseCache(Duration.ofSeconds(30)));
+
+        ResponseEntity<LoansDto> response = loansFallback.fetchLoanDetails("correlation", "4120000001",
+                DownstreamOutcome.TIMEOUT);
+
+        assertThat(response.getBody()).isNull();
+        assertThat(DownstreamOutcome.of(response)).isEqualTo(DownstreamOutcome.TIMEOUT);
+        assertThat(DownstreamResponseCache.isStale(response)).isFalse();
+        assertThat(DownstreamResponseCache.isCacheable(response)).isFalse();
+    }
+
+    @Test
+    void fallbackServesTheLastKnownValueAndFlagsItOnceItIsPastTheFreshTtl() {
+        DownstreamResponseCache freshCache = downstreamResponseCache(Duration.ofSeconds(30));
+        DownstreamResponseCache staleCache = downstreamResponseCache(Duration.ZERO);
+        CardsDto cardsDto = new CardsDto();
+        cardsDto.setMobileNumber("4120000002");
+        freshCache.cards().put("4120000002", cardsDto);
+        staleCache.cards().put("4120000002", cardsDto);
+
+        ResponseEntity<CardsDto> fresh = new CardsFallback(freshCache).fetchCardDetails("correlation", "4120000002",
+                DownstreamOutcome.CIRCUIT_OPEN);
+        ResponseEntity<CardsDto> stale = new CardsFallback(staleCache).fetchCardDetails("correlation", "4120000002",
+                DownstreamOutcome.CIRCUIT_OPEN);
+
+        assertThat(fresh.getBody()).isSameAs(cardsDto);
+        assertThat(DownstreamResponseCache.isStale(fresh)).isFalse();
+        assertThat(stale.getBody()).isSameAs(cardsDto);
+        assertThat(DownstreamResponseCache.isStale(stale)).isTrue();
+        assertThat(DownstreamOutcome.of(stale)).isEqualTo(DownstreamOutcome.CIRCUIT_OPEN);
+        // a fallback answer must never overwrite the last good value
+        assertThat(DownstreamResponseCache.isCacheable(fresh)).isFalse();
+        assertThat(DownstreamResponseCache.isCacheable(ResponseEntity.ok(cardsDto))).isTrue();
+        assertThat(DownstreamOutcome.of(ResponseEntity.ok(cardsDto))).isEqualTo(DownstreamOutcome.SUCCESS);
+    }
+
+    private static DownstreamResponseCache downstreamResponseCache(Duration freshTtl) {
+        CustomerDetailsProperties customerDetailsProperties = new CustomerDetailsProperties();
+        customerDetailsProperties.setFreshTtl(freshTtl);
+        return new DownstreamResponseCache(customerDetailsProperties);
+    }
+}
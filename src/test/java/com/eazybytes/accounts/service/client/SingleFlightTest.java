@@ -0,0 +1,106 @@
+package com.eazybytes.accounts.service.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("loans", meterRegistry);
+
+    @Test
+    void concurrentCallsForOneKeyShareASingleCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("4110000001", () -> {
+                calls.incrementAndGet();
+                callStarted.countDown();
+                await(release);
+                return "loans of 4110000001";
+            }), executorService));
+            assertThat(callStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> singleFlight.execute("4110000001", () -> {
+                    calls.incrementAndGet();
+                    return "second call";
+                }), executorService));
+            }
+            // the followers are counted as they join, before the shared call completes
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (callCount("coalesced") < 7 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (CompletableFuture<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("loans of 4110000001");
+            }
+            assertThat(calls).hasValue(1);
+            assertThat(callCount("executed")).isEqualTo(1);
+            assertThat(callCount("coalesced")).isEqualTo(7);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void failureReachesTheWaitingCallersAndTheNextCallRunsAgain() throws Exception {
+        CountDownLatch callStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("4110000002", () -> {
+            callStarted.countDown();
+            await(release);
+            throw new IllegalStateException("loans is down");
+        }));
+        assertThat(callStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("4110000002", () -> "not called"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (callCount("coalesced") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertThatThrownBy(leader::join).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(follower::join).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute("4110000002", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() {
+        assertThat(singleFlight.execute("4110000003", () -> singleFlight.execute("4110000004", () -> "inner")))
+                .isEqualTo("inner");
+
+        assertThat(callCount("executed")).isEqualTo(2);
+        assertThat(callCount("coalesced")).isZero();
+    }
+
+    private double callCount(String result) {
+        return meterRegistry.get("accounts.downstream.calls").tag("service", "loans").tag("result", result)
+                .counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.config.AccountNumberProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountNumberAllocatorTest {
+
+    private static final int THREADS = 64;
+    private static final int NUMBERS_PER_THREAD = 500;
+    private static final int BLOCK_SIZE = 10;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void parallelAllocationsAcrossBlockRefillsAreUnique() throws Exception {
+        AccountNumberAllocator allocator = new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE, true));
+        Set<Long> accountNumbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                        long accountNumber = allocator.nextAccountNumber();
+                        assertThat(accountNumbers.add(accountNumber)).as("duplicate %d", accountNumber).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = THREADS * NUMBERS_PER_THREAD;
+        assertThat(accountNumbers).hasSize(total);
+        assertThat(accountNumbers).allSatisfy(accountNumber -> {
+            assertThat(accountNumber).isBetween(1_000_000_000L, 9_999_999_999L);
+            assertThat(accountNumber % 10).isEqualTo(AccountNumberAllocator.luhnCheckDigit(accountNumber / 10));
+        });
+        // refills are serialized, so exactly one block was reserved per BLOCK_SIZE numbers
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR account_number_block_seq", Long.class))
+                .isEqualTo(total / BLOCK_SIZE + 1L);
+    }
+
+    @Test
+    void allocatorsSharingTheSequenceNeverOverlap() {
+        AccountNumberAllocator first = new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE, false));
+        AccountNumberAllocator second = new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE, false));
+        Set<Long> accountNumbers = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 10 * BLOCK_SIZE; i++) {
+            assertThat(accountNumbers.add(first.nextAccountNumber())).isTrue();
+            assertThat(accountNumbers.add(second.nextAccountNumber())).isTrue();
+        }
+    }
+
+    @Test
+    void refusesToStartWhenCheckDigitModeChanges() {
+        new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE, true)).nextAccountNumber();
+
+        assertThatThrownBy(() -> new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE, false)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("check-digit=true");
+    }
+
+    @Test
+    void refusesToStartWhenBlockSizeChanges() {
+        new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE, true)).nextAccountNumber();
+
+        assertThatThrownBy(() -> new AccountNumberAllocator(jdbcTemplate, properties(BLOCK_SIZE * 10, true)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("block-size=" + BLOCK_SIZE);
+    }
+
+    private static AccountNumberProperties properties(int blockSize, boolean checkDigit) {
+        AccountNumberProperties properties = new AccountNumberProperties();
+        properties.setBlockSize(blockSize);
+        properties.setCheckDigit(checkDigit);
+        return properties;
+    }
+}
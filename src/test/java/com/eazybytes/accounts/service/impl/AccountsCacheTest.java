@@ -0,0 +1,101 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.CustomerDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountsCacheTest {
+
+    private AccountsCache accountsCache;
+
+    @BeforeEach
+    void setUp() {
+        accountsCache = new AccountsCache(new ConcurrentMapCacheManager(AccountsConstants.ACCOUNTS_CACHE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadsOnceAndServesTheCachedValue() {
+        AtomicInteger loads = new AtomicInteger();
+
+        accountsCache.get("9175552620", () -> customer("Loaded", loads.incrementAndGet()));
+        CustomerDto cached = accountsCache.get("9175552620", () -> customer("Loaded", loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(1);
+        assertThat(cached.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void readThatLoadedBeforeTheCommitDoesNotCacheTheOldRow() throws Exception {
+        CountDownLatch oldRowRead = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        CompletableFuture<CustomerDto> read = CompletableFuture.supplyAsync(() ->
+                accountsCache.get("9175552620", () -> {
+                    CustomerDto oldRow = customer("Before Update", 0);
+                    oldRowRead.countDown();
+                    await(committed);
+                    return oldRow;
+                }));
+        assertThat(oldRowRead.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // the update evicts inside its transaction and again after the commit, before the read caches
+        TransactionSynchronizationManager.initSynchronization();
+        accountsCache.evictAfterCommit("9175552620");
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        committed.countDown();
+
+        assertThat(read.get(10, TimeUnit.SECONDS).getName()).isEqualTo("Before Update");
+        assertThat(accountsCache.get("9175552620", () -> customer("After Update", 1)).getName())
+                .isEqualTo("After Update");
+    }
+
+    @Test
+    void evictsBeforeTheCommitAndAgainAfterIt() {
+        accountsCache.get("9175552620", () -> customer("Cached", 0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        accountsCache.evictAfterCommit("9175552620");
+        CustomerDto duringTransaction = accountsCache.get("9175552620", () -> customer("Read Before Commit", 0));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(duringTransaction.getName()).isEqualTo("Read Before Commit");
+        assertThat(accountsCache.get("9175552620", () -> customer("Read After Commit", 1)).getName())
+                .isEqualTo("Read After Commit");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CustomerDto customer(String name, long version) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName(name);
+        customerDto.setMobileNumber("9175552620");
+        customerDto.setVersion(version);
+        return customerDto;
+    }
+}
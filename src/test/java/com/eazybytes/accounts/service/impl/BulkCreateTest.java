@@ -0,0 +1,79 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.BulkCreateResultDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.repository.CustomerRepository;
+import com.eazybytes.accounts.service.IAccountsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkCreateTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @SpyBean
+    private CustomerRepository customerRepository;
+
+    @Test
+    void reportsTheOutcomeOfEveryRecordInRequestOrder() {
+        iAccountsService.createAccount(customer("4050000001"));
+
+        List<BulkCreateResultDto> results = iAccountsService.createAccounts(List.of(
+                customer("4050000002"),
+                customer("12345"),
+                customer("4050000003"),
+                customer("4050000002"),
+                customer("4050000001")));
+
+        assertThat(results).extracting(BulkCreateResultDto::getMobileNumber)
+                .containsExactly("4050000002", "12345", "4050000003", "4050000002", "4050000001");
+        assertThat(results).extracting(BulkCreateResultDto::getStatusCode).containsExactly(
+                AccountsConstants.STATUS_201, AccountsConstants.STATUS_400, AccountsConstants.STATUS_201,
+                AccountsConstants.STATUS_400, AccountsConstants.STATUS_400);
+        assertThat(results.get(3).getStatusMsg()).isEqualTo(AccountsConstants.MESSAGE_400_DUPLICATE);
+        assertThat(results.get(4).getStatusMsg()).isEqualTo(AccountsConstants.MESSAGE_400_DUPLICATE);
+        assertThat(iAccountsService.fetchAccount("4050000003").getAccountsDto().getAccountNumber()).isNotNull();
+    }
+
+    @Test
+    void fallsBackToOneByOneWhenTheBatchHitsANumberRegisteredAfterTheCheck() {
+        iAccountsService.createAccount(customer("4050000101"));
+        // as if another writer registered the number between the duplicate check and the insert
+        doReturn(List.of()).when(customerRepository).findMobileNumbersIn(anyCollection());
+        List<BulkCreateResultDto> results;
+        try {
+            results = iAccountsService.createAccounts(List.of(
+                    customer("4050000102"), customer("4050000101"), customer("4050000103")));
+        } finally {
+            reset(customerRepository);
+        }
+
+        assertThat(results).extracting(BulkCreateResultDto::getStatusCode).containsExactly(
+                AccountsConstants.STATUS_201, AccountsConstants.STATUS_400, AccountsConstants.STATUS_201);
+        assertThat(results.get(1).getStatusMsg()).isEqualTo(AccountsConstants.MESSAGE_400_DUPLICATE);
+        assertThat(iAccountsService.fetchAccount("4050000102").getMobileNumber()).isEqualTo("4050000102");
+        assertThat(iAccountsService.fetchAccount("4050000103").getMobileNumber()).isEqualTo("4050000103");
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Bulk Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,78 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.CustomerDetailsResultDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.eazybytes.accounts.service.ICustomerService;
+import com.eazybytes.accounts.service.client.DownstreamDetailsClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// small chunks, so one request spans several of them
+@SpringBootTest(properties = "accounts.customer-details.batch-chunk-size=2")
+@ActiveProfiles("test")
+class CustomerDetailsBatchTest {
+
+    @Autowired
+    private ICustomerService iCustomerService;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @MockBean
+    private DownstreamDetailsClient downstreamDetailsClient;
+
+    @Test
+    void answersEveryNumberInRequestOrderAcrossChunks() {
+        iAccountsService.createAccount(customer("4130000001"));
+        iAccountsService.createAccount(customer("4130000002"));
+        LoansDto loansDto = new LoansDto();
+        CardsDto cardsDto = new CardsDto();
+        when(downstreamDetailsClient.fetchLoanDetails(any(), any())).thenReturn(ResponseEntity.ok(loansDto));
+        when(downstreamDetailsClient.fetchCardDetails(any(), any())).thenReturn(ResponseEntity.ok(cardsDto));
+
+        List<CustomerDetailsResultDto> results = new ArrayList<>();
+        iCustomerService.fetchCustomerDetails(Arrays.asList("4130000001", "12345", "4130000099", null, "4130000002"),
+                "correlation", results::add);
+
+        assertThat(results).extracting(CustomerDetailsResultDto::getMobileNumber)
+                .containsExactly("4130000001", "12345", "4130000099", null, "4130000002");
+        assertThat(results).extracting(CustomerDetailsResultDto::getStatusCode).containsExactly(
+                AccountsConstants.STATUS_200, AccountsConstants.STATUS_400, AccountsConstants.STATUS_404,
+                AccountsConstants.STATUS_400, AccountsConstants.STATUS_200);
+        assertThat(results.get(0).getCustomerDetailsDto().getMobileNumber()).isEqualTo("4130000001");
+        assertThat(results.get(0).getCustomerDetailsDto().getLoansDto()).isSameAs(loansDto);
+        assertThat(results.get(4).getCustomerDetailsDto().getCardsDto()).isSameAs(cardsDto);
+        assertThat(results.get(2).getCustomerDetailsDto()).isNull();
+        // only found customers reach loans and cards
+        verify(downstreamDetailsClient, times(2)).fetchLoanDetails(any(), any());
+        verify(downstreamDetailsClient, never()).fetchCardDetails(any(), eq("4130000099"));
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Batch Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,88 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.dto.CardsDto;
+import com.eazybytes.accounts.dto.CustomerDetailsDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.dto.LoansDto;
+import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.service.IAccountsService;
+import com.eazybytes.accounts.service.ICustomerService;
+import com.eazybytes.accounts.service.client.DownstreamDetailsClient;
+import com.eazybytes.accounts.service.client.DownstreamResponseCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// every cached downstream value is past its fresh TTL, so a fallback serves it as stale
+@SpringBootTest(properties = "accounts.customer-details.fresh-ttl=0s")
+@ActiveProfiles("test")
+class CustomerDetailsFallbackTest {
+
+    @Autowired
+    private ICustomerService iCustomerService;
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private DownstreamResponseCache downstreamResponseCache;
+
+    @MockBean
+    private DownstreamDetailsClient downstreamDetailsClient;
+
+    @Test
+    void answersWithTheDownstreamDetailsWhenBothCallsSucceed() {
+        iAccountsService.createAccount(customer("4120000101"));
+        LoansDto loansDto = new LoansDto();
+        CardsDto cardsDto = new CardsDto();
+        when(downstreamDetailsClient.fetchLoanDetails(any(), any())).thenReturn(ResponseEntity.ok(loansDto));
+        when(downstreamDetailsClient.fetchCardDetails(any(), any())).thenReturn(ResponseEntity.ok(cardsDto));
+
+        CustomerDetailsDto customerDetailsDto = iCustomerService.fetchCustomerDetails("4120000101", "correlation");
+
+        assertThat(customerDetailsDto.getLoansDto()).isSameAs(loansDto);
+        assertThat(customerDetailsDto.getCardsDto()).isSameAs(cardsDto);
+        assertThat(customerDetailsDto.isStale()).isFalse();
+    }
+
+    @Test
+    void failedCallsFallBackToTheLastKnownValueOrToNothing() {
+        iAccountsService.createAccount(customer("4120000102"));
+        LoansDto lastKnownLoans = new LoansDto();
+        downstreamResponseCache.loans().put("4120000102", lastKnownLoans);
+        when(downstreamDetailsClient.fetchLoanDetails(any(), any())).thenThrow(new IllegalStateException("loans is down"));
+        when(downstreamDetailsClient.fetchCardDetails(any(), any())).thenThrow(new IllegalStateException("cards is down"));
+
+        CustomerDetailsDto customerDetailsDto = iCustomerService.fetchCustomerDetails("4120000102", "correlation");
+
+        assertThat(customerDetailsDto.getMobileNumber()).isEqualTo("4120000102");
+        assertThat(customerDetailsDto.getLoansDto()).isSameAs(lastKnownLoans);
+        assertThat(customerDetailsDto.getCardsDto()).isNull();
+        assertThat(customerDetailsDto.isStale()).isTrue();
+    }
+
+    @Test
+    void unknownCustomerFailsWithoutCallingLoansOrCards() {
+        assertThatThrownBy(() -> iCustomerService.fetchCustomerDetails("4120000199", "correlation"))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(downstreamDetailsClient);
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Fallback Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,85 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.service.IAccountsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IndexedLookupTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void fetchOfAnIndexedCustomerWithCachedRowsRunsNoStatement() {
+        iAccountsService.createAccount(customer("4250000001"));
+        cacheManager.getCache(AccountsConstants.ACCOUNTS_CACHE).clear();
+        statistics.clear();
+
+        CustomerDto customerDto = iAccountsService.fetchAccount("4250000001");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(customerDto.getMobileNumber()).isEqualTo("4250000001");
+        assertThat(customerDto.getAccountsDto().getAccountNumber()).isNotNull();
+    }
+
+    @Test
+    void fetchFallsBackToOneQueryWhenTheRowsAreNotCached() {
+        iAccountsService.createAccount(customer("4250000002"));
+        cacheManager.getCache(AccountsConstants.ACCOUNTS_CACHE).clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        CustomerDto customerDto = iAccountsService.fetchAccount("4250000002");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(customerDto.getMobileNumber()).isEqualTo("4250000002");
+    }
+
+    @Test
+    void deleteOfAnIndexedCustomerWithCachedRowsSkipsTheSnapshotQuery() {
+        iAccountsService.createAccount(customer("4250000003"));
+        statistics.clear();
+
+        iAccountsService.deleteAccount("4250000003");
+
+        // the deletes and the outbox insert run through JDBC, so Hibernate ran no statement at all
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(iAccountsService.fetchAccounts(List.of("4250000003"))).isEmpty();
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Indexed Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}
@@ -0,0 +1,94 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.exception.ResourceNotFoundException;
+import com.eazybytes.accounts.service.IAccountsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// a database of its own, as the rows are inserted with fixed ids behind the service's back
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:join-fetch")
+@ActiveProfiles("test")
+class JoinFetchLookupTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void customerAndAccountAreReadWithOneStatement() {
+        // inserted with JDBC, so neither the index nor any cache knows the customer
+        insertCustomer(2_000_000_001L, "4030000001");
+        insertAccount(2_000_000_001L, 9_000_000_001L);
+        statistics.clear();
+
+        CustomerDto customerDto = iAccountsService.fetchAccount("4030000001");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(customerDto.getName()).isEqualTo("Joined Customer");
+        assertThat(customerDto.getAccountsDto().getAccountNumber()).isEqualTo(9_000_000_001L);
+    }
+
+    @Test
+    void customerWithoutAccountIsReportedFromTheSameStatement() {
+        insertCustomer(2_000_000_002L, "4030000002");
+        statistics.clear();
+
+        assertThatThrownBy(() -> iAccountsService.fetchAccount("4030000002"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Account");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void severalCustomersAreReadWithOneStatement() {
+        insertCustomer(2_000_000_003L, "4030000003");
+        insertAccount(2_000_000_003L, 9_000_000_003L);
+        insertCustomer(2_000_000_004L, "4030000004");
+        insertAccount(2_000_000_004L, 9_000_000_004L);
+        statistics.clear();
+
+        Map<String, CustomerDto> customerDtos = iAccountsService.fetchAccounts(List.of("4030000003", "4030000004", "4030000099"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(customerDtos).containsOnlyKeys("4030000003", "4030000004");
+        assertThat(customerDtos.get("4030000004").getAccountsDto().getAccountNumber()).isEqualTo(9_000_000_004L);
+    }
+
+    private void insertCustomer(long customerId, String mobileNumber) {
+        jdbcTemplate.update("insert into customer (customer_id, name, email, mobile_number, created_at, created_by, version) " +
+                "values (?, 'Joined Customer', ?, ?, current_date, 'test', 0)", customerId,
+                "customer" + mobileNumber + "@fakemail.com", mobileNumber);
+    }
+
+    private void insertAccount(long customerId, long accountNumber) {
+        jdbcTemplate.update("insert into accounts (customer_id, account_number, account_type, branch_address, created_at, " +
+                "created_by, version) values (?, ?, 'Savings', '123 Main Street, New York', current_date, 'test', 0)",
+                customerId, accountNumber);
+    }
+}
@@ -0,0 +1,106 @@
+package com.eazybytes.accounts.service.impl;
+
+import com.eazybytes.accounts.constants.AccountsConstants;
+import com.eazybytes.accounts.dto.AccountsDto;
+import com.eazybytes.accounts.dto.AccountsPageDto;
+import com.eazybytes.accounts.dto.CustomerDto;
+import com.eazybytes.accounts.exception.InvalidPageTokenException;
+import com.eazybytes.accounts.service.IAccountsService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// a database of its own, so the listing only holds the accounts created here
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:keyset-paging")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPagingTest {
+
+    @Autowired
+    private IAccountsService iAccountsService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Long> accountNumbers = new ArrayList<>();
+
+    @BeforeAll
+    void createAccounts() {
+        for (int i = 1; i <= 5; i++) {
+            String mobileNumber = "415000000" + i;
+            iAccountsService.createAccount(customer(mobileNumber));
+            accountNumbers.add(iAccountsService.fetchAccount(mobileNumber).getAccountsDto().getAccountNumber());
+        }
+        accountNumbers.sort(null);
+    }
+
+    @Test
+    void pageTokensWalkEveryAccountOnceInAccountNumberOrder() {
+        List<Long> listed = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String pageToken = null;
+        do {
+            AccountsPageDto page = iAccountsService.listAccounts(null, null, pageToken, 2);
+            page.getAccounts().forEach(accountsDto -> listed.add(accountsDto.getAccountNumber()));
+            pageSizes.add(page.getAccounts().size());
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(listed).isEqualTo(accountNumbers);
+    }
+
+    @Test
+    void lastFullPageHasNoNextPageToken() {
+        AccountsPageDto page = iAccountsService.listAccounts(AccountsConstants.SAVINGS, AccountsConstants.ADDRESS, null, 5);
+
+        assertThat(page.getAccounts()).extracting(AccountsDto::getAccountNumber).isEqualTo(accountNumbers);
+        assertThat(page.getNextPageToken()).isNull();
+    }
+
+    @Test
+    void filtersApplyAcrossPages() {
+        AccountsPageDto page = iAccountsService.listAccounts("Current", null, null, 2);
+
+        assertThat(page.getAccounts()).isEmpty();
+        assertThat(page.getNextPageToken()).isNull();
+    }
+
+    @Test
+    void tamperedPageTokensAreRejected() throws Exception {
+        String notBase64 = "not a token!";
+        String wrongPrefix = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("x" + accountNumbers.get(0)).getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> iAccountsService.listAccounts(null, null, notBase64, 2))
+                .isInstanceOf(InvalidPageTokenException.class);
+        assertThatThrownBy(() -> iAccountsService.listAccounts(null, null, wrongPrefix, 2))
+                .isInstanceOf(InvalidPageTokenException.class);
+        mockMvc.perform(get("/api/accounts").param("pageToken", wrongPrefix))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static CustomerDto customer(String mobileNumber) {
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Paged Customer");
+        customerDto.setEmail("customer" + mobileNumber + "@fakemail.com");
+        customerDto.setMobileNumber(mobileNumber);
+        return customerDto;
+    }
+}